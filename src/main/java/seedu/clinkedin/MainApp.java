@@ -23,6 +23,9 @@ import seedu.clinkedin.model.ReadOnlyUserPrefs;
 import seedu.clinkedin.model.UserPrefs;
 import seedu.clinkedin.model.util.SampleDataUtil;
 import seedu.clinkedin.storage.AddressBookStorage;
+import seedu.clinkedin.storage.AddressBookWriter;
+import seedu.clinkedin.storage.BinaryAddressBookStorage;
+import seedu.clinkedin.storage.JournalAddressBookStorage;
 import seedu.clinkedin.storage.JsonAddressBookStorage;
 import seedu.clinkedin.storage.JsonUserPrefsStorage;
 import seedu.clinkedin.storage.Storage;
@@ -56,8 +59,17 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage addressBookStorage;
+        if (BinaryAddressBookStorage.isBinaryFile(addressBookFilePath)) {
+            addressBookStorage = new BinaryAddressBookStorage(addressBookFilePath);
+        } else if (userPrefs.isJournalEnabled()) {
+            addressBookStorage = new JournalAddressBookStorage(addressBookFilePath);
+        } else {
+            addressBookStorage = new JsonAddressBookStorage(addressBookFilePath);
+        }
+        storage = new StorageManager(addressBookStorage, userPrefsStorage,
+                new AddressBookWriter(addressBookStorage));
 
         initLogging(config);
 
@@ -174,6 +186,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ClinkedIn ] =============================");
+        try {
+            storage.closeAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -11,6 +11,8 @@ public class Messages {
     public static final String MESSAGE_CANNOT_UNDO = "CLInkedIn cannot undo any further!";
     public static final String MESSAGE_CANNOT_REDO = "CLInkedIn cannot redo any further!";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_RANKED_PERSONS_LISTED_OVERVIEW =
+            "%1$d persons listed, best matches first! (%2$d persons matched)";
     public static final String MESSAGE_STATS_DISPLAYED_OVERVIEW = "Statistics displayed!\n"
             + "Number of persons used to calculate statistics: %5$d\n"
             + "Average tags per person: %1$.2f\n"
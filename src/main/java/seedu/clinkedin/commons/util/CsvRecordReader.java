@@ -0,0 +1,138 @@
+package seedu.clinkedin.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import com.opencsv.CSVReader;
+
+import seedu.clinkedin.commons.exceptions.EmptyFileException;
+
+/**
+ * Reads the records of a CSV file one at a time, where a record is a group of consecutive rows ended by a blank
+ * row or by the end of the file.
+ * Only the record being read is held in memory, so a file can be read no matter how large it is.
+ */
+public class CsvRecordReader implements Closeable {
+
+    private static final String UTF8_BOM = "\uFEFF"; // the UTF-8 byte order mark (BOM)
+
+    private final CountingInputStream input;
+    private final CSVReader reader;
+    private final long fileSize;
+    private boolean isFirstRow = true;
+
+    private CsvRecordReader(Path file) throws IOException {
+        fileSize = Files.size(file);
+        input = new CountingInputStream(Files.newInputStream(file));
+        reader = new CSVReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Opens the CSV file at {@code filePath} for reading.
+     *
+     * @throws FileNotFoundException if there is no file at {@code filePath}.
+     * @throws EmptyFileException if the file is empty.
+     */
+    public static CsvRecordReader open(String filePath) throws IOException, EmptyFileException {
+        requireNonNull(filePath);
+        Path file = Paths.get(filePath);
+        if (!Files.isRegularFile(file)) {
+            throw new FileNotFoundException("File couldn't be found!");
+        }
+        if (Files.size(file) == 0) {
+            throw new EmptyFileException("File is empty!");
+        }
+        return new CsvRecordReader(file);
+    }
+
+    /**
+     * Returns the rows of the next record, or null if there are no more records.
+     * Blank rows between records are skipped.
+     */
+    public ArrayList<String[]> readRecord() throws IOException {
+        ArrayList<String[]> record = new ArrayList<>();
+        String[] row;
+        while ((row = reader.readNext()) != null) {
+            if (isFirstRow && row.length > 0 && row[0].startsWith(UTF8_BOM)) {
+                row[0] = row[0].substring(UTF8_BOM.length());
+            }
+            isFirstRow = false;
+            if (row.length == 0 || row[0].isBlank()) {
+                if (!record.isEmpty()) {
+                    return record;
+                }
+            } else {
+                record.add(row);
+            }
+        }
+        return record.isEmpty() ? null : record;
+    }
+
+    /**
+     * Returns the number of bytes of the file read so far.
+     * As the file is read ahead in blocks, this may be more than the bytes of the records returned.
+     */
+    public long getBytesRead() {
+        return input.count;
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * An input stream that counts the bytes read through it.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
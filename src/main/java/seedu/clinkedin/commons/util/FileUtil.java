@@ -1,23 +1,29 @@
 package seedu.clinkedin.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
 
-import com.opencsv.CSVReader;
 import com.opencsv.CSVWriter;
 
-import seedu.clinkedin.commons.exceptions.EmptyFileException;
+import seedu.clinkedin.commons.core.LogsCenter;
+import seedu.clinkedin.commons.exceptions.DataConversionException;
 
 /**
  * Writes and reads files
@@ -25,7 +31,10 @@ import seedu.clinkedin.commons.exceptions.EmptyFileException;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
-    private static final String UTF8_BOM = "\uFEFF"; // the UTF-8 byte order mark (BOM)
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final String BACKUP_FILE_EXTENSION = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -95,56 +104,148 @@ public class FileUtil {
     }
 
     /**
-     * Exports data to file path.
+     * Replaces the contents of {@code file} with what {@code writer} writes, so that the file holds either its old
+     * or its new contents even if the program or the machine stops midway.
+     * The new contents are written to a temporary file and forced to the disk, then moved over {@code file} in a
+     * single step. Before that, the old file is kept as the first of {@code backupCount} backups, and older backups
+     * are renamed one step further back.
+     * @param writer writes the new contents. It must not close the stream it is given.
      */
-    public static void exportToCsvFile(String filePath, List<String[]> data) throws IOException {
-        File file = new File(filePath);
-        if (file.getParentFile() != null) {
-            file.getParentFile().mkdirs();
+    public static void writeToFileAtomically(Path file, int backupCount, FileContentWriter writer)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                writer.write(out);
+                out.flush();
+                channel.force(true);
+            }
+            if (isFileExists(file)) {
+                rotateBackups(file, backupCount);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(file.toAbsolutePath().getParent());
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
-        file.createNewFile();
-        FileOutputStream outputStream = new FileOutputStream(file, false);
-        CSVWriter writer = new CSVWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
-        outputStream.write(0xef);
-        outputStream.write(0xbb);
-        outputStream.write(0xbf);
-        writer.writeAll(data);
-        writer.close();
     }
 
     /**
-     * Imports data from file path.
+     * Returns the contents of {@code file} as read by {@code reader}, or those of the newest of its
+     * {@code backupCount} backups that can be read if the file cannot.
+     * Returns {@code Optional.empty()} if neither the file nor any backup exists.
+     * @throws DataConversionException if no file can be read, with the problem found in {@code file}.
      */
-    public static ArrayList<ArrayList<String[]>> importFromCsvFile(String filePath) throws IOException,
-            EmptyFileException {
-        File file = new File(filePath);
-        if (!file.exists() || file.isDirectory()) {
-            throw new FileNotFoundException("File couldn't be found!");
+    public static <T> Optional<T> readFromFileOrBackup(Path file, int backupCount, FileContentReader<T> reader)
+            throws DataConversionException, IOException {
+        DataConversionException firstException = null;
+        for (int i = 0; i <= backupCount; i++) {
+            Path candidate = i == 0 ? file : getBackupFilePath(file, i);
+            if (!isFileExists(candidate)) {
+                continue;
+            }
+            try {
+                Optional<T> contents = reader.read(candidate);
+                if (i > 0) {
+                    logger.warning(file + " could not be read, using backup " + candidate);
+                }
+                return contents;
+            } catch (DataConversionException e) {
+                logger.warning("Could not read " + candidate + ": " + e.getMessage());
+                firstException = firstException == null ? e : firstException;
+            }
+        }
+        if (firstException != null) {
+            throw firstException;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the path of the {@code number}th newest backup of {@code file}, counting from 1.
+     */
+    public static Path getBackupFilePath(Path file, int number) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION + number);
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it stays moved.
+     * Does nothing on platforms where directories cannot be opened.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Could not force directory " + directory + " to the disk: " + e);
         }
+    }
 
-        FileReader filereader = new FileReader(file);
-        CSVReader reader = new CSVReader(filereader);
-        ArrayList<ArrayList<String[]>> data = new ArrayList<>();
-        ArrayList<String[]> person = new ArrayList<>();
-        String[] line;
-        line = reader.readNext();
-        if (line == null) {
-            throw new EmptyFileException("File is empty!");
+    /**
+     * Makes {@code file} the newest of {@code backupCount} backups, dropping the oldest backup.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0) {
+            return;
+        }
+        Files.deleteIfExists(getBackupFilePath(file, backupCount));
+        for (int i = backupCount - 1; i >= 1; i--) {
+            Path backup = getBackupFilePath(file, i);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(file, i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
         }
-        if (line.length > 0 && line[0].startsWith(UTF8_BOM)) {
-            line[0] = line[0].substring(1);
-            person.add(line);
+        Path newestBackup = getBackupFilePath(file, 1);
+        try {
+            // the file is about to be replaced, so its contents can be shared instead of copied
+            Files.createLink(newestBackup, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, newestBackup, StandardCopyOption.REPLACE_EXISTING);
         }
-        while ((line = reader.readNext()) != null) {
-            if (line.length == 0 || line[0].isBlank()) {
-                data.add(person);
-                person = new ArrayList<>();
-            } else {
-                person.add(line);
+    }
+
+    /**
+     * Exports {@code rows} to the CSV file at {@code filePath}.
+     * Each row is written as it is taken from {@code rows}, so the rows do not have to be held in memory at once.
+     */
+    public static void exportToCsvFile(String filePath, Iterable<String[]> rows) throws IOException {
+        File file = new File(filePath);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        file.createNewFile();
+        try (FileOutputStream outputStream = new FileOutputStream(file, false);
+                CSVWriter writer = new CSVWriter(new BufferedWriter(
+                        new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)))) {
+            outputStream.write(0xef);
+            outputStream.write(0xbb);
+            outputStream.write(0xbf);
+            for (String[] row : rows) {
+                writer.writeNext(row);
             }
         }
-        return data;
+    }
 
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface FileContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads the contents of a file.
+     */
+    @FunctionalInterface
+    public interface FileContentReader<T> {
+        Optional<T> read(Path file) throws DataConversionException, IOException;
     }
 
 }
@@ -0,0 +1,64 @@
+package seedu.clinkedin.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value type, keyed by the data the values are created from.
+ * Equal values taken from the pool share one instance, and a value is only created, and so validated, the first
+ * time its key is seen.
+ * The pool is bounded: once it holds {@code capacity} values, values for new keys are created without being pooled.
+ * It is safe to use from several threads at once.
+ */
+public class InternPool<K, V> {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final Map<K, V> pool = new ConcurrentHashMap<>();
+    private final Function<K, V> factory;
+    private final int capacity;
+
+    /**
+     * Creates a pool of {@link #DEFAULT_CAPACITY} values that are created by {@code factory}.
+     */
+    public InternPool(Function<K, V> factory) {
+        this(factory, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pool of at most {@code capacity} values that are created by {@code factory}.
+     */
+    public InternPool(Function<K, V> factory, int capacity) {
+        requireNonNull(factory);
+        checkArgument(capacity >= 0, "Capacity must not be negative");
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it with the factory if there is none yet.
+     * Any exception thrown by the factory is passed on, and nothing is pooled for {@code key}.
+     */
+    public V intern(K key) {
+        requireNonNull(key);
+        V value = pool.get(key);
+        if (value != null) {
+            return value;
+        }
+        if (pool.size() >= capacity) {
+            return factory.apply(key);
+        }
+        return pool.computeIfAbsent(key, factory);
+    }
+
+    /**
+     * Returns the number of values in the pool.
+     */
+    public int size() {
+        return pool.size();
+    }
+}
@@ -2,7 +2,9 @@ package seedu.clinkedin.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -22,6 +27,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.clinkedin.commons.core.LogsCenter;
 import seedu.clinkedin.commons.exceptions.DataConversionException;
+import seedu.clinkedin.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -76,6 +82,32 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the value read by {@code reader} from the given file, or {@code Optional.empty()} object if the file
+     * is not found.
+     * The file is streamed to {@code reader} token by token, so it is never held in memory as a whole.
+     * @param filePath cannot be null.
+     * @param reader reads the value from a parser positioned before the first token of the file.
+     * @throws DataConversionException if the file format is not as expected, or the value read is invalid.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, JsonReader<T> reader) throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            return Optional.of(reader.read(parser));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -90,6 +122,26 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json written by {@code writer} to the specified file, as it is written.
+     * The file is replaced atomically, keeping the old file as the newest of {@code backupCount} backups.
+     * @param filePath cannot be null
+     * @param writer writes the Json to a generator that pretty prints it
+     * @throws IOException if there was an error during writing to the file
+     * @see FileUtil#writeToFileAtomically(Path, int, FileUtil.FileContentWriter)
+     */
+    public static void saveJsonFile(Path filePath, int backupCount, JsonWriter writer) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+
+        FileUtil.writeToFileAtomically(filePath, backupCount, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                generator.useDefaultPrettyPrinter();
+                writer.write(generator);
+            }
+        });
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +162,39 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Reads a value from a stream of Json tokens.
+     */
+    @FunctionalInterface
+    public interface JsonReader<T> {
+        /**
+         * Reads the value from {@code parser}, which is bound to the same object mapper as the rest of this class.
+         */
+        T read(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes a value as a stream of Json tokens.
+     */
+    @FunctionalInterface
+    public interface JsonWriter {
+        /**
+         * Writes the value to {@code generator}, which is bound to the same object mapper as the rest of this
+         * class.
+         */
+        void write(JsonGenerator generator) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
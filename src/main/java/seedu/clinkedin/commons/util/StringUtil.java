@@ -6,6 +6,7 @@ import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -87,6 +88,134 @@ public class StringUtil {
                 .anyMatch(w -> w.contains(preppedWord.toLowerCase()));
     }
 
+    /**
+     * Returns true if any of the {@code lowerCaseWords} contains the {@code word}, ignoring case.
+     * Gives the same result as {@link #containsPartialWordIgnoreCase(String, String)} on a sentence whose
+     * lower-cased words, split on whitespace, are {@code lowerCaseWords}.
+     * @param lowerCaseWords cannot be null, must be lower case
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static boolean containsPartialWordIgnoreCase(List<String> lowerCaseWords, String word) {
+        requireNonNull(lowerCaseWords);
+        requireNonNull(word);
+
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+
+        String lowerCaseWord = preppedWord.toLowerCase();
+        for (String w : lowerCaseWords) {
+            if (w.contains(lowerCaseWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the {@code sentence} contains the {@code lowerCaseSequence}, ignoring case.
+     * Unlike {@link #containsSequenceIgnoreCase(String, String)}, the sequence is not trimmed or checked, and no
+     * lower-cased copy of the sentence is made.
+     * @param sentence cannot be null
+     * @param lowerCaseSequence cannot be null, must be lower case
+     */
+    public static boolean containsIgnoreCase(String sentence, String lowerCaseSequence) {
+        return indexOfIgnoreCase(sentence, lowerCaseSequence, 0) >= 0;
+    }
+
+    /**
+     * Returns the number of times the {@code lowerCaseSequence} occurs in the {@code sentence}, ignoring case.
+     * Occurrences may overlap.
+     * @param sentence cannot be null
+     * @param lowerCaseSequence cannot be null, cannot be empty, must be lower case
+     */
+    public static int countIgnoreCase(String sentence, String lowerCaseSequence) {
+        checkArgument(!lowerCaseSequence.isEmpty(), "Sequence parameter cannot be empty");
+        int count = 0;
+        for (int i = indexOfIgnoreCase(sentence, lowerCaseSequence, 0); i >= 0;
+                i = indexOfIgnoreCase(sentence, lowerCaseSequence, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the {@code lowerCaseSequence} in the {@code sentence} from
+     * {@code fromIndex}, ignoring case, or -1 if there is none.
+     */
+    private static int indexOfIgnoreCase(String sentence, String lowerCaseSequence, int fromIndex) {
+        int length = lowerCaseSequence.length();
+        if (length == 0) {
+            return fromIndex <= sentence.length() ? fromIndex : -1;
+        }
+        char first = lowerCaseSequence.charAt(0);
+        for (int i = fromIndex; i <= sentence.length() - length; i++) {
+            if (Character.toLowerCase(sentence.charAt(i)) == first
+                    && sentence.regionMatches(true, i, lowerCaseSequence, 0, length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if {@code s} is made up of ASCII letters and digits only, and is not empty.
+     * Gives the same result as {@code s.matches("\\p{Alnum}+")} without the cost of a regex.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAlphanumeric(String s) {
+        if (s.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!isAsciiAlphanumeric(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code s} is made up of ASCII letters, digits and spaces only, and starts with a letter or
+     * digit.
+     * Gives the same result as {@code s.matches("[\\p{Alnum}][\\p{Alnum} ]*")} without the cost of a regex.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAlphanumericWords(String s) {
+        if (s.isEmpty() || !isAsciiAlphanumeric(s.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code s} is made up of at least {@code minLength} ASCII digits and nothing else.
+     * Gives the same result as {@code s.matches("\\d{minLength,}")} without the cost of a regex.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isDigits(String s, int minLength) {
+        if (s.length() < minLength || s.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
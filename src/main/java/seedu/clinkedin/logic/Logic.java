@@ -1,10 +1,14 @@
 package seedu.clinkedin.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.clinkedin.commons.core.GuiSettings;
 import seedu.clinkedin.logic.commands.CommandResult;
+import seedu.clinkedin.logic.commands.ProgressListener;
 import seedu.clinkedin.logic.commands.exceptions.CommandException;
 import seedu.clinkedin.logic.parser.exceptions.ParseException;
 import seedu.clinkedin.model.ReadOnlyAddressBook;
@@ -23,6 +27,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command like {@link #execute(String)}, but prepares and finishes it on a background thread with
+     * its progress reported to {@code progressListener}, so that a long-running command does not block the caller.
+     * The rest of the command, which needs the model, is run by {@code modelExecutor}, which has to run it on the
+     * thread that owns the model. The returned future is also completed by {@code modelExecutor}.
+     * @param commandText The command as entered by the user.
+     * @return the future result of the command execution, which completes exceptionally with a
+     *     {@code CommandException} if an error occurs during command execution.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CompletableFuture<CommandResult> executeInBackground(String commandText, ProgressListener progressListener,
+            Executor modelExecutor) throws ParseException;
+
     /**
      * Returns the AddressBook.
      *
@@ -52,4 +69,11 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that is given an error message whenever the data cannot be saved after a command has
+     * returned.
+     * The handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
 }
@@ -2,6 +2,11 @@ package seedu.clinkedin.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -9,6 +14,7 @@ import seedu.clinkedin.commons.core.GuiSettings;
 import seedu.clinkedin.commons.core.LogsCenter;
 import seedu.clinkedin.logic.commands.Command;
 import seedu.clinkedin.logic.commands.CommandResult;
+import seedu.clinkedin.logic.commands.ProgressListener;
 import seedu.clinkedin.logic.commands.exceptions.CommandException;
 import seedu.clinkedin.logic.parser.AddressBookParser;
 import seedu.clinkedin.logic.parser.exceptions.ParseException;
@@ -27,6 +33,11 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-preparer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -41,14 +52,67 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        command.prepare(ProgressListener.NONE);
+        CommandResult commandResult = executeOnModel(command);
+        command.finish(ProgressListener.NONE);
+        return commandResult;
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeInBackground(String commandText,
+            ProgressListener progressListener, Executor modelExecutor) throws ParseException {
+        logger.info("----------------[USER COMMAND IN BACKGROUND][" + commandText + "]");
+
+        Command command = addressBookParser.parseCommand(commandText);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        backgroundExecutor.execute(() -> prepareInBackground(command, progressListener, modelExecutor, result));
+        return result;
+    }
+
+    private void prepareInBackground(Command command, ProgressListener progressListener, Executor modelExecutor,
+            CompletableFuture<CommandResult> result) {
+        try {
+            command.prepare(progressListener);
+        } catch (CommandException | RuntimeException e) {
+            modelExecutor.execute(() -> result.completeExceptionally(e));
+            return;
+        }
+        modelExecutor.execute(() -> executeOnModelThread(command, progressListener, modelExecutor, result));
+    }
 
+    private void executeOnModelThread(Command command, ProgressListener progressListener, Executor modelExecutor,
+            CompletableFuture<CommandResult> result) {
+        CommandResult commandResult;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            commandResult = executeOnModel(command);
+        } catch (CommandException | RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        backgroundExecutor.execute(() -> {
+            try {
+                command.finish(progressListener);
+            } catch (CommandException | RuntimeException e) {
+                modelExecutor.execute(() -> result.completeExceptionally(e));
+                return;
+            }
+            modelExecutor.execute(() -> result.complete(commandResult));
+        });
+    }
+
+    /**
+     * Executes the prepared {@code command} on the model and saves the address book if it may have changed.
+     */
+    private CommandResult executeOnModel(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+
+        if (command.isMutating()) {
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
         }
 
         return commandResult;
@@ -83,4 +147,9 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        storage.setSaveFailureHandler(e -> handler.accept(FILE_OPS_ERROR_MESSAGE + e));
+    }
 }
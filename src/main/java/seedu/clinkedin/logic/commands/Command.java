@@ -8,6 +8,28 @@ import seedu.clinkedin.model.Model;
  */
 public abstract class Command {
 
+    /**
+     * Does the part of the command that does not need the model, such as reading a file, before
+     * {@link #execute(Model)} is called.
+     * As it does not touch the model, it can be run off the JavaFX application thread, with its progress reported
+     * to {@code progressListener}. Most commands have nothing to prepare.
+     *
+     * @throws CommandException If an error occurs while preparing the command.
+     */
+    public void prepare(ProgressListener progressListener) throws CommandException {
+    }
+
+    /**
+     * Does the part of the command that no longer needs the model, such as writing a file, after
+     * {@link #execute(Model)} has returned.
+     * Like {@link #prepare(ProgressListener)}, it can be run off the JavaFX application thread, with its progress
+     * reported to {@code progressListener}. Most commands have nothing to finish.
+     *
+     * @throws CommandException If an error occurs while finishing the command.
+     */
+    public void finish(ProgressListener progressListener) throws CommandException {
+    }
+
     /**
      * Executes the command and returns the result message.
      *
@@ -17,4 +39,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command can change the address book, so that it has to be saved afterwards.
+     * Commands that only read the address book override this to return false.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
@@ -5,10 +5,12 @@ import static seedu.clinkedin.commons.util.FileUtil.exportToCsvFile;
 import static seedu.clinkedin.logic.parser.CliSyntax.PREFIX_PATH;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
 
-import javafx.collections.ObservableList;
 import seedu.clinkedin.logic.commands.exceptions.CommandException;
 import seedu.clinkedin.logic.parser.ParserUtil.FileType;
 import seedu.clinkedin.model.Model;
@@ -29,9 +31,13 @@ public class ExportCommand extends Command {
     public static final String MESSAGE_SUCCESS = "PersonList exported successfully in %s";
     public static final String MESSAGE_WINDOW = "Opening Export Window...";
 
+    // the number of persons exported between progress reports
+    private static final int PROGRESS_INTERVAL = 1000;
+
     private String filePath;
     private FileType fileType;
     private boolean onlyCommand;
+    private List<Person> personsToExport;
 
     /**
      * Creates an ExportCommand to export the AddressBook
@@ -48,27 +54,76 @@ public class ExportCommand extends Command {
         this.onlyCommand = true;
     }
 
+    /**
+     * Takes the persons to export from the filtered person list.
+     * The file is only written by {@link #finish(ProgressListener)}, which does not need the model. Persons in the
+     * model are replaced rather than changed when they are edited, so the persons taken still hold the details they
+     * had here while later commands run.
+     */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         if (onlyCommand) {
             return new CommandResult(MESSAGE_WINDOW, false, false, true);
         }
-        List<String[]> data = toCsvFormat(model.getFilteredPersonList());
+        personsToExport = new ArrayList<>(model.getFilteredPersonList());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath));
+    }
 
+    /**
+     * Writes the persons taken by {@link #execute(Model)} to the file, creating the rows of one person at a time.
+     */
+    @Override
+    public void finish(ProgressListener progressListener) throws CommandException {
+        requireNonNull(progressListener);
+        if (onlyCommand) {
+            return;
+        }
+        assert personsToExport != null : "execute has to be called before finish";
+        List<Person> persons = personsToExport;
+        personsToExport = null;
         try {
-            exportToCsvFile(filePath, data);
+            exportToCsvFile(filePath, toCsvRows(persons, progressListener));
         } catch (IOException ioe) {
             throw new CommandException("Couldn't export file! Check file path and try again!");
         }
-        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
     }
 
     /**
-     * Convert personList to CSVFormat parsable form.
+     * Returns the CSV rows of {@code persons}, which are only created as they are iterated over, one person at a
+     * time. The number of persons whose rows have been taken is reported to {@code progressListener}.
      */
-    public static List<String[]> toCsvFormat(ObservableList<Person> personList) {
-        return personList.stream().flatMap(person -> person.getDetailsAsArray().stream()).collect(Collectors.toList());
+    public static Iterable<String[]> toCsvRows(List<Person> persons, ProgressListener progressListener) {
+        requireNonNull(persons);
+        requireNonNull(progressListener);
+        return () -> new Iterator<>() {
+            private int personCount;
+            private Iterator<String[]> personRows = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!personRows.hasNext() && personCount < persons.size()) {
+                    personRows = persons.get(personCount++).getDetailsAsArray().iterator();
+                    if (personCount % PROGRESS_INTERVAL == 0 || personCount == persons.size()) {
+                        progressListener.onProgress(personCount, persons.size());
+                    }
+                }
+                return personRows.hasNext();
+            }
+
+            @Override
+            public String[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return personRows.next();
+            }
+        };
     }
 
 }
@@ -2,43 +2,80 @@ package seedu.clinkedin.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+
 import seedu.clinkedin.commons.core.Messages;
 import seedu.clinkedin.model.Model;
 import seedu.clinkedin.model.person.DetailsContainKeywordsPredicate;
+import seedu.clinkedin.model.person.PersonRanking;
 
 /**
  * Finds and lists all persons in address book whose details contain any of the argument or tagged keywords.
  * Keyword matching is case-insensitive.
+ * In ranked mode, only the best matching persons are listed, best match first.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final int DEFAULT_RANK_LIMIT = 100;
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose details contain any of "
             + "the specified tagged or untagged keywords (case-insensitive) and displays them as a list "
             + "with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Start with rank/[LIMIT] to list only the best LIMIT matches (default " + DEFAULT_RANK_LIMIT + "), "
+            + "best match first.\n"
+            + "Parameters: [rank/[LIMIT]] KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie\n"
-            + "Example: " + COMMAND_WORD + " n/alex p/87654321 t/friends t/owesMoney";
+            + "Example: " + COMMAND_WORD + " n/alex p/87654321 t/friends t/owesMoney\n"
+            + "Example: " + COMMAND_WORD + " rank/10 java python";
 
     final DetailsContainKeywordsPredicate predicate;
+    private final int rankLimit;
 
+    /**
+     * Creates a FindCommand that lists every person matching {@code predicate}.
+     */
     public FindCommand(DetailsContainKeywordsPredicate predicate) {
+        this(predicate, 0);
+    }
+
+    /**
+     * Creates a FindCommand that lists the best {@code rankLimit} persons matching {@code predicate}, best match
+     * first, or every matching person if {@code rankLimit} is 0.
+     */
+    public FindCommand(DetailsContainKeywordsPredicate predicate, int rankLimit) {
         this.predicate = predicate;
+        this.rankLimit = rankLimit;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        if (rankLimit == 0) {
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        }
+
+        // only the persons found by the (indexed or parallel) filter are scored
+        PersonRanking ranking = new PersonRanking(new ArrayList<>(model.getFilteredPersonList()), predicate,
+                rankLimit);
+        model.updateFilteredPersonList(ranking::contains, ranking);
+        return new CommandResult(String.format(Messages.MESSAGE_RANKED_PERSONS_LISTED_OVERVIEW,
+                model.getFilteredPersonList().size(), ranking.getMatchCount()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate)
+                && rankLimit == ((FindCommand) other).rankLimit); // state check
     }
 }
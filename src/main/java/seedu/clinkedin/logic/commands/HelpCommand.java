@@ -43,6 +43,11 @@ public class HelpCommand extends Command {
         return new CommandResult(shownHelpMessage, showHelpWindow, false);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,21 +1,23 @@
 package seedu.clinkedin.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.clinkedin.commons.util.FileUtil.importFromCsvFile;
 import static seedu.clinkedin.logic.parser.CliSyntax.PREFIX_PATH;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.clinkedin.commons.exceptions.EmptyFileException;
+import seedu.clinkedin.commons.util.CsvRecordReader;
 import seedu.clinkedin.logic.commands.exceptions.CommandException;
 import seedu.clinkedin.logic.parser.ParserUtil;
 import seedu.clinkedin.logic.parser.ParserUtil.FileType;
 import seedu.clinkedin.logic.parser.exceptions.InvalidPersonException;
 import seedu.clinkedin.model.Model;
 import seedu.clinkedin.model.person.Person;
+import seedu.clinkedin.model.person.exceptions.TagTypeNotFoundException;
 
 
 
@@ -37,10 +39,21 @@ public class ImportCommand extends Command {
     public static final String MESSAGE_SOME_CHANGE =
             "Some candidates were ignored as adding them would result in duplicate persons!";
     public static final String MESSAGE_WINDOW = "Opening Import Window...";
+    public static final String MESSAGE_INVALID_RECORDS =
+            "%d candidates were ignored as their records in the file are invalid:";
+    public static final String MESSAGE_INVALID_RECORD = "Candidate %d: %s";
+    public static final String MESSAGE_TAG_TYPE_NOT_FOUND = "Tag type doesn't exist!";
+
+    // the number of records parsed together, which bounds the records held in memory
+    private static final int PARSE_BATCH_SIZE = 1024;
+    private static final int MAX_REPORTED_INVALID_RECORDS = 5;
 
     private String filePath;
     private FileType fileType;
     private boolean onlyCommand;
+    private List<Person> importedPersons;
+    private List<String> invalidRecordErrors;
+    private int invalidRecordCount;
 
 
     /**
@@ -58,59 +71,117 @@ public class ImportCommand extends Command {
         this.onlyCommand = true;
     }
 
+    /**
+     * Reads the records in the file in batches and parses the records of each batch in parallel, so that only the
+     * parsed persons and one batch of records are held in memory.
+     * Records that cannot be parsed are skipped and reported in the result instead of failing the import.
+     */
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
+    public void prepare(ProgressListener progressListener) throws CommandException {
+        requireNonNull(progressListener);
         if (onlyCommand) {
-            return new CommandResult(MESSAGE_WINDOW, false, false, false, true);
+            return;
         }
-        ArrayList<ArrayList<String[]>> content;
-        try {
-            content = importFromCsvFile(filePath);
-        } catch (FileNotFoundException e) {
-            throw new CommandException(e.getMessage());
-        } catch (EmptyFileException e) {
+        importedPersons = new ArrayList<>();
+        invalidRecordErrors = new ArrayList<>();
+        invalidRecordCount = 0;
+        try (CsvRecordReader reader = CsvRecordReader.open(filePath)) {
+            List<ArrayList<String[]>> batch = new ArrayList<>(PARSE_BATCH_SIZE);
+            int recordCount = 0;
+            ArrayList<String[]> record;
+            while ((record = reader.readRecord()) != null) {
+                batch.add(record);
+                if (batch.size() == PARSE_BATCH_SIZE) {
+                    parseBatch(batch, recordCount + 1);
+                    recordCount += batch.size();
+                    batch.clear();
+                    progressListener.onProgress(reader.getBytesRead(), reader.getFileSize());
+                }
+            }
+            parseBatch(batch, recordCount + 1);
+            progressListener.onProgress(reader.getFileSize(), reader.getFileSize());
+        } catch (FileNotFoundException | EmptyFileException e) {
             throw new CommandException(e.getMessage());
         } catch (IOException e) {
             throw new CommandException("Couldn't import file!");
         }
 
-        if (content.size() == 0) {
+        if (importedPersons.isEmpty() && invalidRecordCount == 0) {
             throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
         }
-        List<Person> personList = getPersonList(content);
-
-        boolean isUpdated = false;
-        boolean isSomeExisting = false;
-        for (Person person : personList) {
-            if (!model.hasPerson(person)) {
-                isUpdated = true;
-                model.addPerson(person);
-            } else {
-                isSomeExisting = true;
-            }
+        if (importedPersons.isEmpty()) {
+            throw new CommandException(describeInvalidRecords());
         }
+    }
 
-        if (isUpdated && isSomeExisting) {
-            return new CommandResult(String.format(MESSAGE_SUCCESS) + " " + MESSAGE_SOME_CHANGE);
+    /**
+     * Parses {@code records} in parallel, numbered from {@code firstRecordNumber}, and adds the persons parsed to
+     * {@code importedPersons} in the order of the records.
+     */
+    private void parseBatch(List<ArrayList<String[]>> records, int firstRecordNumber) {
+        List<Object> results = records.parallelStream()
+                .map(ImportCommand::parseRecord)
+                .collect(Collectors.toList());
+        for (int i = 0; i < results.size(); i++) {
+            Object result = results.get(i);
+            if (result instanceof Person) {
+                importedPersons.add((Person) result);
+                continue;
+            }
+            invalidRecordCount++;
+            if (invalidRecordErrors.size() < MAX_REPORTED_INVALID_RECORDS) {
+                invalidRecordErrors.add(String.format(MESSAGE_INVALID_RECORD, firstRecordNumber + i, result));
+            }
         }
-        if (isUpdated) {
-            return new CommandResult(String.format(MESSAGE_SUCCESS));
+    }
+
+    /**
+     * Returns the person parsed from {@code record}, or the reason it cannot be parsed.
+     */
+    private static Object parseRecord(ArrayList<String[]> record) {
+        try {
+            return ParserUtil.parsePerson(record);
+        } catch (InvalidPersonException | IllegalArgumentException e) {
+            return e.getMessage();
+        } catch (TagTypeNotFoundException e) {
+            return MESSAGE_TAG_TYPE_NOT_FOUND;
         }
-        return new CommandResult(String.format(MESSAGE_NO_CHANGE, filePath));
+    }
 
+    private String describeInvalidRecords() {
+        StringBuilder description = new StringBuilder(String.format(MESSAGE_INVALID_RECORDS, invalidRecordCount));
+        invalidRecordErrors.forEach(error -> description.append("\n").append(error));
+        if (invalidRecordCount > invalidRecordErrors.size()) {
+            description.append("\n...");
+        }
+        return description.toString();
     }
 
-    public List<Person> getPersonList(ArrayList<ArrayList<String[]>> stringPersonList) throws CommandException {
-        List<Person> personList = new ArrayList<>();
-        for (ArrayList<String[]> person: stringPersonList) {
-            try {
-                personList.add(ParserUtil.parsePerson(person));
-            } catch (InvalidPersonException ipe) {
-                throw new CommandException(ipe.getMessage());
-            }
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (onlyCommand) {
+            return new CommandResult(MESSAGE_WINDOW, false, false, false, true);
+        }
+        assert importedPersons != null : "prepare has to be called before execute";
+
+        int addedCount = model.addPersons(importedPersons);
+        boolean isUpdated = addedCount > 0;
+        boolean isSomeExisting = addedCount < importedPersons.size();
+        importedPersons = null;
+
+        String message;
+        if (isUpdated && isSomeExisting) {
+            message = String.format(MESSAGE_SUCCESS) + " " + MESSAGE_SOME_CHANGE;
+        } else if (isUpdated) {
+            message = String.format(MESSAGE_SUCCESS);
+        } else {
+            message = String.format(MESSAGE_NO_CHANGE, filePath);
+        }
+        if (invalidRecordCount > 0) {
+            message += "\n" + describeInvalidRecords();
         }
-        return personList;
+        return new CommandResult(message);
     }
 
 }
@@ -0,0 +1,17 @@
+package seedu.clinkedin.logic.commands;
+
+/**
+ * Receives the progress of a long-running command.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /** A listener that ignores all progress. */
+    ProgressListener NONE = (workDone, totalWork) -> { };
+
+    /**
+     * Called with the amount of work done so far out of {@code totalWork}.
+     * May be called from a thread other than the JavaFX application thread.
+     */
+    void onProgress(long workDone, long totalWork);
+}
@@ -30,6 +30,11 @@ public class StatsCommand extends Command {
                 stats.getSum(), stats.getCount()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
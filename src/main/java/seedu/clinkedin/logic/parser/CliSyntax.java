@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,8 +27,7 @@ import seedu.clinkedin.logic.commands.ListCommand;
 import seedu.clinkedin.logic.commands.NoteCommand;
 import seedu.clinkedin.logic.commands.RateCommand;
 import seedu.clinkedin.logic.commands.StatsCommand;
-import seedu.clinkedin.logic.parser.exceptions.DuplicatePrefixException;
-import seedu.clinkedin.logic.parser.exceptions.PrefixNotFoundException;
+import seedu.clinkedin.model.person.UniqueTagTypeMap;
 
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple
@@ -50,11 +50,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_JOBTYPETAG = new Prefix(("jtt/"));
     public static final Prefix PREFIX_PATH = new Prefix("path/");
     public static final Prefix PREFIX_RATING = new Prefix("rate/");
-    private static ArrayList<Prefix> prefixTags = new ArrayList<>(Arrays.asList(PREFIX_SKILLTAG, PREFIX_DEGREETAG,
-            PREFIX_JOBTYPETAG));
-    private static ArrayList<Prefix> prefixes = new ArrayList<>(Arrays.asList(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-            PREFIX_ADDRESS, PREFIX_SKILLTAG, PREFIX_DEGREETAG, PREFIX_JOBTYPETAG, PREFIX_STATUS, PREFIX_NOTE,
-            PREFIX_PATH, PREFIX_RATING, PREFIX_LINK));
+    public static final Prefix PREFIX_RANK = new Prefix("rank/");
+    // the prefixes of tag types are kept by the tag type registry
+    private static final List<Prefix> NON_TAG_PREFIXES = Collections.unmodifiableList(Arrays.asList(PREFIX_NAME,
+            PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_STATUS, PREFIX_NOTE, PREFIX_PATH, PREFIX_RATING,
+            PREFIX_LINK, PREFIX_RANK));
     // Will there be PREFIX_NOTE in this?
     private static ArrayList<Prefix> uniquePrefixes = new ArrayList<>(Arrays.asList(PREFIX_NAME, PREFIX_PHONE,
             PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_STATUS, PREFIX_RATING, PREFIX_NOTE));
@@ -81,52 +81,16 @@ public class CliSyntax {
             RateCommand.class,
             StatsCommand.class);
 
-    /**
-     * Adds a tag prefix to the list of prefixes.
-     * @param pref Prefix to be added.
-     * @throws DuplicatePrefixException If the prefix is already present in the list
-     *                                  of prefixes.
-     */
-    public static void addTagPrefix(Prefix pref) throws DuplicatePrefixException {
-        if (prefixTags.contains(pref) || prefixes.contains(pref)) {
-            throw new DuplicatePrefixException();
-        }
-        prefixTags.add(pref);
-        prefixes.add(pref);
-    }
-
-    /**
-     * Adds a tag prefix to the list of prefixes if it does not already exist in the prefixes list.
-     * @param pref List of prefixes to be added.
-     */
-    public static void setTagPrefix(List<Prefix> pref) {
-        prefixes.removeAll(prefixTags);
-        prefixTags = new ArrayList<>(pref);
-        prefixes.addAll(prefixTags);
-    }
-
-    /**
-     * Removes a tag prefix from the list of prefixes.
-     * @param pref Prefix to be removed.
-     * @throws PrefixNotFoundException If the prefix doesn't exist in the list of
-     *                                 prefixes.
-     */
-    public static void removeTagPrefix(Prefix pref) throws PrefixNotFoundException {
-        if (!prefixTags.contains(pref) || !prefixes.contains(pref)) {
-            throw new PrefixNotFoundException();
-        }
-        prefixTags.remove(pref);
-        prefixes.remove(pref);
-    }
-
     /**
      * Returns a list of prefixes that are used in Clinkedin.
      * @return List of prefixes.
      */
     public static Prefix[] getPrefixes() {
-        requireNonNull(prefixes);
-        Prefix[] pref = new Prefix[prefixes.size()];
-        pref = prefixes.toArray(pref);
+        List<Prefix> prefixTags = getPrefixTags();
+        Prefix[] pref = NON_TAG_PREFIXES.toArray(new Prefix[NON_TAG_PREFIXES.size() + prefixTags.size()]);
+        for (int i = 0; i < prefixTags.size(); i++) {
+            pref[NON_TAG_PREFIXES.size() + i] = prefixTags.get(i);
+        }
         return pref;
     }
 
@@ -134,9 +98,16 @@ public class CliSyntax {
      * Returns a list of prefixes for tags that are used in Clinkedin.
      * @return List of prefixes for tags.
      */
-    public static ArrayList<Prefix> getPrefixTags() {
-        requireNonNull(prefixTags);
-        return prefixTags;
+    public static List<Prefix> getPrefixTags() {
+        return UniqueTagTypeMap.getRegistry().getSnapshot().getPrefixes();
+    }
+
+    /**
+     * Returns the prefixes used in Clinkedin that are not for tags, which tag types cannot use.
+     * @return List of prefixes that are not for tags.
+     */
+    public static List<Prefix> getNonTagPrefixes() {
+        return NON_TAG_PREFIXES;
     }
 
     /**
@@ -6,6 +6,7 @@ import static seedu.clinkedin.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.clinkedin.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.clinkedin.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.clinkedin.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.clinkedin.logic.parser.CliSyntax.PREFIX_RANK;
 import static seedu.clinkedin.logic.parser.CliSyntax.PREFIX_RATING;
 import static seedu.clinkedin.logic.parser.CliSyntax.PREFIX_STATUS;
 
@@ -16,6 +17,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import seedu.clinkedin.commons.util.StringUtil;
 import seedu.clinkedin.logic.commands.FindCommand;
 import seedu.clinkedin.logic.parser.exceptions.ParseException;
 import seedu.clinkedin.model.person.Address;
@@ -38,6 +40,21 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.startsWith(PREFIX_RANK.getPrefix())) {
+            String[] rankAndKeywords = trimmedArgs.split("\\s+", 2);
+            int rankLimit = parseRankLimit(rankAndKeywords[0].substring(PREFIX_RANK.getPrefix().length()));
+            String keywords = rankAndKeywords.length > 1 ? " " + rankAndKeywords[1] : "";
+            return new FindCommand(parsePredicate(keywords), rankLimit);
+        }
+        return new FindCommand(parsePredicate(args));
+    }
+
+    /**
+     * Parses the given keywords into the predicate of a FindCommand.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    private static DetailsContainKeywordsPredicate parsePredicate(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, CliSyntax.getPrefixes());
 
@@ -51,20 +68,35 @@ public class FindCommandParser implements Parser<FindCommand> {
             Map<Prefix, List<String>> prefToStrings = new HashMap<>();
             CliSyntax.getPrefixTags().stream().forEach(pref -> prefToStrings.put(pref, argMultimap.getAllValues(pref)));
             Set<Rating> ratingList = ParserUtil.parseRatings(argMultimap.getAllValues(PREFIX_RATING));
-            return new FindCommand(new DetailsContainKeywordsPredicate(nameList,
-                    phoneList, emailList, addressList, statusList, noteList, ratingList, prefToStrings));
+            return new DetailsContainKeywordsPredicate(nameList,
+                    phoneList, emailList, addressList, statusList, noteList, ratingList, prefToStrings);
 
         }
 
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        String trimmedKeywords = args.trim();
+        if (trimmedKeywords.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] detailsKeywords = trimmedArgs.split("\\s+");
+        String[] detailsKeywords = trimmedKeywords.split("\\s+");
+
+        return new DetailsContainKeywordsPredicate(Arrays.asList(detailsKeywords));
+    }
 
-        return new FindCommand(new DetailsContainKeywordsPredicate(Arrays.asList(detailsKeywords)));
+    /**
+     * Parses the number of persons to list in ranked mode, which is {@link FindCommand#DEFAULT_RANK_LIMIT} if
+     * {@code limit} is empty.
+     * @throws ParseException if {@code limit} is not a positive integer
+     */
+    private static int parseRankLimit(String limit) throws ParseException {
+        if (limit.isEmpty()) {
+            return FindCommand.DEFAULT_RANK_LIMIT;
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(limit)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return Integer.parseInt(limit);
     }
 
     /**
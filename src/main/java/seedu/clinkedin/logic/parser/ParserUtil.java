@@ -133,7 +133,7 @@ public class ParserUtil {
             if (!Tag.isValidTagName(t.trim())) {
                 throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
             }
-            tagList.add(new Tag(t.trim()));
+            tagList.add(Tag.of(t.trim()));
         }
         return tagList;
     }
@@ -150,7 +150,7 @@ public class ParserUtil {
         if (!Status.isValidStatus(trimmedStatus)) {
             throw new ParseException(Status.MESSAGE_CONSTRAINTS);
         }
-        return new Status(trimmedStatus);
+        return Status.of(trimmedStatus);
     }
 
     /**
@@ -176,7 +176,7 @@ public class ParserUtil {
         if (!Rating.isValidRatingStr(trimmedRating)) {
             throw new ParseException(Rating.MESSAGE_CONSTRAINTS);
         }
-        return new Rating(trimmedRating);
+        return Rating.of(trimmedRating);
     }
 
     /**
@@ -419,17 +419,17 @@ public class ParserUtil {
                 address = new Address(detail[1]);
                 break;
             case "Status":
-                status = new Status(detail[1]);
+                status = Status.of(detail[1]);
                 break;
             case "Note":
                 note = new Note(detail[1]);
                 break;
             case "Tag:":
-                TagType tagTypeName = new TagType(tagType);
+                TagType tagTypeName = TagType.of(tagType);
                 ParserUtil.addTags(tagTypeMap, tagTypeName, detail);
                 break;
             case "Rating":
-                rating = new Rating(detail[1]);
+                rating = Rating.of(detail[1]);
                 break;
             case "Links":
                 for (int i = 1; i < detail.length; i++) {
@@ -449,7 +449,7 @@ public class ParserUtil {
 
     private static void addTags(UniqueTagTypeMap tagTypeMap, TagType tagType, String[] tags) {
         for (int i = 1; i < tags.length; i++) {
-            tagTypeMap.mergeTag(tagType, new Tag(tags[i]));
+            tagTypeMap.mergeTag(tagType, Tag.of(tags[i]));
         }
     }
     private static boolean checkAllNonNull(Name name, Phone phone, Email email,
@@ -1,5 +1,7 @@
 package seedu.clinkedin.logic.parser;
 
+import seedu.clinkedin.commons.util.StringUtil;
+
 /**
  * A prefix that marks the beginning of an argument in an arguments string.
  * E.g. 't/' in 'add James t/ friend'.
@@ -45,6 +47,6 @@ public class Prefix {
      * Returns true if a given string is a valid prefix name.
      */
     public static boolean isValidPrefixName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumeric(test);
     }
 }
@@ -19,7 +19,6 @@ import seedu.clinkedin.model.tag.TagType;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
-    private Map<Prefix, TagType> prefixMap;
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -33,7 +32,6 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
-        prefixMap = UniqueTagTypeMap.getPrefixMap();
     }
 
     public AddressBook() {
@@ -59,11 +57,16 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The duplicate check is skipped if {@code newData} is an {@code AddressBook}, whose persons are already unique.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).getUniquePersonList());
+            return;
+        }
+        persons.setPersons(newData.getPersonList());
     }
 
     //// person-level operations
@@ -85,6 +88,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code persons} to the clinkedin book as a single change to the person list.
+     * None of the persons may already exist in the clinkedin book, or be the same person as another in
+     * {@code persons}.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with
      * {@code editedPerson}.
@@ -98,6 +110,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces each person that is a key of {@code editedPersons} with the person it maps to.
+     * {@code editedPersons} must look up persons by identity, and each edited person must keep the name of the
+     * person it replaces.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        persons.replacePersons(editedPersons);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the clinkedin book.
@@ -119,6 +140,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the {@code UniquePersonList} backing this {@code AddressBook}.
+     */
+    protected UniquePersonList getUniquePersonList() {
+        return persons;
+    }
+
     @Override
     public Map<Prefix, TagType> getPrefixMap() {
         return UniqueTagTypeMap.getPrefixMap();
@@ -0,0 +1,160 @@
+package seedu.clinkedin.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.clinkedin.model.person.Person;
+import seedu.clinkedin.model.person.UniquePersonList;
+
+/**
+ * Records the person-level edits made to an address book between two commits.
+ * Only the affected persons are kept, so a history of changes does not hold a copy of the whole address book
+ * for every command. Reverting or re-applying a change replays the edits by index on the person list, so that
+ * only the affected rows of the list are changed.
+ */
+class AddressBookChange {
+
+    private final List<Edit> edits = new ArrayList<>();
+    private int size;
+
+    /**
+     * Records that {@code person} was added at {@code index}.
+     */
+    void recordAdd(int index, Person person) {
+        requireNonNull(person);
+        record(new Edit(index, null, person));
+    }
+
+    /**
+     * Records that {@code persons} were added together starting at {@code index}.
+     */
+    void recordAddAll(int index, List<Person> persons) {
+        requireNonNull(persons);
+        record(new Edit(index, null, new ArrayList<>(persons)));
+    }
+
+    /**
+     * Records that {@code person} was removed from {@code index}.
+     */
+    void recordRemove(int index, Person person) {
+        requireNonNull(person);
+        record(new Edit(index, person, null));
+    }
+
+    /**
+     * Records that {@code target} at {@code index} was replaced by {@code editedPerson}.
+     */
+    void recordSet(int index, Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        record(new Edit(index, target, editedPerson));
+    }
+
+    /**
+     * Records that the whole person list {@code oldPersons} was replaced by {@code newPersons}.
+     */
+    void recordReplace(List<Person> oldPersons, List<Person> newPersons) {
+        requireNonNull(oldPersons);
+        requireNonNull(newPersons);
+        record(new Edit(new ArrayList<>(oldPersons), new ArrayList<>(newPersons)));
+    }
+
+    private void record(Edit edit) {
+        edits.add(edit);
+        size += edit.getSize();
+    }
+
+    /**
+     * Undoes the recorded edits on {@code persons}, latest edit first.
+     */
+    void revert(UniquePersonList persons) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).revert(persons);
+        }
+    }
+
+    /**
+     * Redoes the recorded edits on {@code persons}, in the order they were made.
+     */
+    void apply(UniquePersonList persons) {
+        for (Edit edit : edits) {
+            edit.apply(persons);
+        }
+    }
+
+    /**
+     * Returns the number of person references held by this change.
+     * Used to bound the memory taken up by the undo/redo history.
+     */
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * A single edit to the person list.
+     * An add has no {@code before} person, a removal has no {@code after} person, and a replacement of the whole
+     * list has neither but holds both lists instead. Persons added together starting at {@code index} are held in
+     * {@code afterList} only.
+     */
+    private static class Edit {
+        private final int index;
+        private final Person before;
+        private final Person after;
+        private final List<Person> beforeList;
+        private final List<Person> afterList;
+
+        Edit(int index, Person before, Person after) {
+            this.index = index;
+            this.before = before;
+            this.after = after;
+            this.beforeList = null;
+            this.afterList = null;
+        }
+
+        Edit(List<Person> beforeList, List<Person> afterList) {
+            this(-1, beforeList, afterList);
+        }
+
+        Edit(int index, List<Person> beforeList, List<Person> afterList) {
+            this.index = index;
+            this.before = null;
+            this.after = null;
+            this.beforeList = beforeList;
+            this.afterList = afterList;
+        }
+
+        int getSize() {
+            if (beforeList != null || afterList != null) {
+                return (beforeList == null ? 0 : beforeList.size()) + (afterList == null ? 0 : afterList.size());
+            }
+            return before != null && after != null ? 2 : 1;
+        }
+
+        void revert(UniquePersonList persons) {
+            change(persons, after, before, afterList, beforeList);
+        }
+
+        void apply(UniquePersonList persons) {
+            change(persons, before, after, beforeList, afterList);
+        }
+
+        private void change(UniquePersonList persons, Person from, Person to, List<Person> fromList,
+                            List<Person> toList) {
+            if (fromList != null && toList != null) {
+                persons.setPersons(toList);
+            } else if (fromList != null) {
+                persons.removeRange(index, index + fromList.size());
+            } else if (toList != null) {
+                persons.addAll(index, toList);
+            } else if (from == null) {
+                persons.add(index, to);
+            } else if (to == null) {
+                persons.remove(index);
+            } else {
+                persons.setPerson(index, to);
+            }
+        }
+    }
+}
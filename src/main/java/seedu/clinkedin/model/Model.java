@@ -1,7 +1,9 @@
 package seedu.clinkedin.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.DoubleSummaryStatistics;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -87,6 +89,14 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons as a single change that is undone in one step.
+     * Persons that already exist in the clinkedin book, or are the same person as an earlier one in
+     * {@code persons}, are skipped.
+     * @return the number of persons added.
+     */
+    int addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the clinkedin book.
@@ -120,6 +130,15 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders it by
+     * the given {@code comparator}.
+     * {@code predicate} is tested on each person as it is, without the search index or the parallel filter, so it
+     * should be cheap, such as a membership test.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
     void deleteTagTypeForAllPerson(TagType toDelete);
 
     void editTagTypeForAllPerson(TagType toEdit, TagType editTo);
@@ -5,18 +5,27 @@ import static seedu.clinkedin.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.DoubleSummaryStatistics;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.clinkedin.commons.core.GuiSettings;
 import seedu.clinkedin.commons.core.LogsCenter;
 import seedu.clinkedin.commons.exceptions.CannotRedoAddressBookException;
 import seedu.clinkedin.commons.exceptions.CannotUndoAddressBookException;
+import seedu.clinkedin.model.person.Name;
 import seedu.clinkedin.model.person.Person;
+import seedu.clinkedin.model.person.PersonSearchIndex;
+import seedu.clinkedin.model.person.PersonTagIndex;
 import seedu.clinkedin.model.person.UniqueTagTypeMap;
 import seedu.clinkedin.model.tag.TagType;
 
@@ -29,6 +38,10 @@ public class ModelManager implements Model {
     private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private final PersonSearchIndex searchIndex;
+    private final PersonTagIndex tagIndex;
+    private final ParallelPersonFilter parallelFilter;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -38,9 +51,16 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with CLInkedIn book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new VersionedAddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryLimit(),
+                userPrefs.getUndoHistorySizeLimit());
         this.userPrefs = new UserPrefs(userPrefs);
+        // the index and filter must be created first so that they are updated before the filtered list re-tests
+        // changed persons
+        searchIndex = new PersonSearchIndex(this.addressBook.getPersonList());
+        tagIndex = searchIndex.getTagIndex();
+        parallelFilter = new ParallelPersonFilter(this.addressBook.getPersonList());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -149,6 +169,25 @@ public class ModelManager implements Model {
         commitAddressBook();
     }
 
+    @Override
+    public int addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        Set<Name> addedNames = new HashSet<>();
+        List<Person> toAdd = new ArrayList<>();
+        for (Person person : persons) {
+            if (!addressBook.hasPerson(person) && addedNames.add(person.getName())) {
+                toAdd.add(person);
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return 0;
+        }
+        addressBook.addPersons(toAdd);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        commitAddressBook();
+        return toAdd.size();
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -185,13 +224,30 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        sortedPersons.setComparator(null);
+        filterPersons(predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(comparator);
+    }
+
+    private void filterPersons(Predicate<Person> predicate) {
+        Predicate<Person> optimisedPredicate = searchIndex.optimise(predicate);
+        if (optimisedPredicate == predicate && predicate != PREDICATE_SHOW_ALL_PERSONS
+                && addressBook.getPersonList().size() >= userPrefs.getParallelFilterThreshold()) {
+            optimisedPredicate = parallelFilter.precompute(predicate);
+        }
+        filteredPersons.setPredicate(optimisedPredicate);
     }
 
     @Override
@@ -201,27 +257,28 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteTagTypeForAllPerson(TagType toDelete) {
-        List<Person> personList = addressBook.getPersonList();
-        personList.stream().forEach(x -> x.deleteTagType(toDelete));
-        addressBook.setPersons(personList);
+        Map<Person, Person> editedPersons = new IdentityHashMap<>();
+        for (Person p : tagIndex.getPersonsWithTagType(toDelete)) {
+            UniqueTagTypeMap tagTypeMap = new UniqueTagTypeMap();
+            tagTypeMap.setTagTypeMap(p.getTags());
+            tagTypeMap.removeTagType(toDelete);
+            editedPersons.put(p, p.withTagTypeMap(tagTypeMap));
+        }
+        addressBook.replacePersons(editedPersons);
     }
 
     /**
      * Edits an existing tag type for all person.
      */
     public void editTagTypeForAllPerson(TagType toEdit, TagType editTo) {
-        List<Person> personList = addressBook.getPersonList();
-        List<Person> updatedPersonList = new ArrayList<>();
-        for (Person p: personList) {
+        Map<Person, Person> editedPersons = new IdentityHashMap<>();
+        for (Person p : tagIndex.getPersonsWithTagType(toEdit)) {
             UniqueTagTypeMap tagTypeMap = new UniqueTagTypeMap();
-            if (p.getTags().keySet().contains(toEdit)) {
-                tagTypeMap.setTagTypeMap(p.getTags());
-                tagTypeMap.setTagType(toEdit, editTo);
-                p.setTagTypeMap(tagTypeMap);
-            }
-            updatedPersonList.add(p);
+            tagTypeMap.setTagTypeMap(p.getTags());
+            tagTypeMap.setTagType(toEdit, editTo);
+            editedPersons.put(p, p.withTagTypeMap(tagTypeMap));
         }
-        addressBook.setPersons(updatedPersonList);
+        addressBook.replacePersons(editedPersons);
     }
 
     @Override
@@ -240,7 +297,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredPersons.equals(other.filteredPersons);
+                && sortedPersons.equals(other.sortedPersons);
     }
 
 }
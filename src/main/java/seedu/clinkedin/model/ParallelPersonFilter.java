@@ -0,0 +1,115 @@
+package seedu.clinkedin.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.clinkedin.model.person.Person;
+
+/**
+ * Tests a predicate on every person of a list in parallel, splitting the list into chunks that are tested on a
+ * fork-join pool.
+ * The result is returned as a predicate that looks up each person's precomputed result, so that a
+ * {@code FilteredList} can be refiltered with it in a single change without testing the original predicate again.
+ */
+class ParallelPersonFilter {
+
+    /** The number of persons below which a chunk is tested on a single thread. */
+    static final int CHUNK_SIZE = 1024;
+
+    private final ObservableList<Person> persons;
+    private final ForkJoinPool pool;
+    private int version;
+
+    /**
+     * Creates a filter over {@code persons} that runs on the common fork-join pool.
+     */
+    ParallelPersonFilter(ObservableList<Person> persons) {
+        this(persons, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a filter over {@code persons} that runs on {@code pool}.
+     */
+    ParallelPersonFilter(ObservableList<Person> persons, ForkJoinPool pool) {
+        requireNonNull(persons);
+        requireNonNull(pool);
+        this.persons = persons;
+        this.pool = pool;
+        persons.addListener((ListChangeListener<Person>) unused -> version++);
+    }
+
+    /**
+     * Tests {@code predicate} on every person in parallel, and returns a predicate equivalent to it that answers
+     * from the results.
+     * Once the person list changes, the results are no longer used and {@code predicate} is tested instead.
+     * If the pool has only one thread, {@code predicate} is returned as it is.
+     * {@code predicate} must be safe to test from several threads at once.
+     */
+    Predicate<Person> precompute(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (pool.getParallelism() <= 1) {
+            return predicate;
+        }
+        List<Person> snapshot = new ArrayList<>(persons);
+        boolean[] results = new boolean[snapshot.size()];
+        pool.invoke(new FilterTask(snapshot, predicate, results, 0, snapshot.size()));
+
+        int matchCount = 0;
+        for (boolean result : results) {
+            matchCount += result ? 1 : 0;
+        }
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>(matchCount));
+        for (int i = 0; i < results.length; i++) {
+            if (results[i]) {
+                matches.add(snapshot.get(i));
+            }
+        }
+        int resultsVersion = version;
+        return person -> resultsVersion == version ? matches.contains(person) : predicate.test(person);
+    }
+
+    /**
+     * Tests the predicate on a range of persons, splitting the range in half until it is at most
+     * {@link #CHUNK_SIZE} persons long.
+     */
+    private static class FilterTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Person> persons;
+        private final Predicate<Person> predicate;
+        private final boolean[] results;
+        private final int from;
+        private final int to;
+
+        FilterTask(List<Person> persons, Predicate<Person> predicate, boolean[] results, int from, int to) {
+            this.persons = persons;
+            this.predicate = predicate;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    results[i] = predicate.test(persons.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FilterTask(persons, predicate, results, from, middle),
+                    new FilterTask(persons, predicate, results, middle, to));
+        }
+    }
+}
@@ -13,4 +13,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    int getUndoHistoryLimit();
+
+    int getUndoHistorySizeLimit();
+
+    int getParallelFilterThreshold();
+
+    boolean isJournalEnabled();
+
 }
@@ -1,6 +1,7 @@
 package seedu.clinkedin.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,14 @@ import seedu.clinkedin.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 10_000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int undoHistoryLimit = VersionedAddressBook.DEFAULT_HISTORY_LIMIT;
+    private int undoHistorySizeLimit = VersionedAddressBook.DEFAULT_HISTORY_SIZE_LIMIT;
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
+    private boolean journalEnabled = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setUndoHistorySizeLimit(newUserPrefs.getUndoHistorySizeLimit());
+        setParallelFilterThreshold(newUserPrefs.getParallelFilterThreshold());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +67,54 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    /**
+     * Sets the maximum number of commands that can be undone.
+     */
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit >= 0, "Undo history limit cannot be negative");
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public int getUndoHistorySizeLimit() {
+        return undoHistorySizeLimit;
+    }
+
+    /**
+     * Sets the maximum number of persons that can be recorded across all commands that can be undone or redone.
+     */
+    public void setUndoHistorySizeLimit(int undoHistorySizeLimit) {
+        checkArgument(undoHistorySizeLimit >= 0, "Undo history size limit cannot be negative");
+        this.undoHistorySizeLimit = undoHistorySizeLimit;
+    }
+
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    /**
+     * Sets the number of persons from which the person list is filtered in parallel.
+     */
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        checkArgument(parallelFilterThreshold >= 0, "Parallel filter threshold cannot be negative");
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    /**
+     * Sets whether saves only append the changes made to a journal kept next to the data file, which is only
+     * brought up to date when the app stops or the journal grows long.
+     */
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +127,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && undoHistoryLimit == o.undoHistoryLimit
+                && undoHistorySizeLimit == o.undoHistorySizeLimit
+                && parallelFilterThreshold == o.parallelFilterThreshold
+                && journalEnabled == o.journalEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryLimit, undoHistorySizeLimit,
+                parallelFilterThreshold, journalEnabled);
     }
 
     @Override
@@ -81,6 +145,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nUndo history size limit : " + undoHistorySizeLimit);
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
+        sb.append("\nJournal enabled : " + journalEnabled);
         return sb.toString();
     }
 
@@ -2,221 +2,192 @@ package seedu.clinkedin.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
-import javafx.collections.ObservableList;
 import seedu.clinkedin.commons.exceptions.CannotRedoAddressBookException;
 import seedu.clinkedin.commons.exceptions.CannotUndoAddressBookException;
 import seedu.clinkedin.model.person.Person;
-import seedu.clinkedin.model.person.UniquePersonList;
 
 /**
- * Subclass of AddressBook that stores the state of the AddressBook at a particular point in time.
- * This is used to implement the undo/redo feature.
- * Has an undo/redo history of AddressBook states.
+ * Subclass of AddressBook that keeps an undo/redo history of its changes.
+ * Instead of a copy of the whole AddressBook per state, each committed state only records the persons that were
+ * added, removed or replaced since the previous commit. The history is bounded both in the number of undoable
+ * states and in the number of persons recorded across them, with the oldest states being dropped first.
+ * Undo and redo replay the recorded edits in place, so a one-person change only changes one row of the person list.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final UniquePersonList persons;
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+    public static final int DEFAULT_HISTORY_SIZE_LIMIT = 1_000_000;
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    private final Deque<AddressBookChange> undoHistory = new ArrayDeque<>();
+    private final Deque<AddressBookChange> redoHistory = new ArrayDeque<>();
+    private final int historyLimit;
+    private final int historySizeLimit;
 
-    private int currentStatePointer;
-
-    /*
-     * The 'unusual' code block below is a non-static initialization block,
-     * sometimes used to avoid duplication
-     * between constructors. See
-     * https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other
-     * ways to avoid duplication
-     * among constructors.
-     */
-    {
-        persons = new UniquePersonList();
-    }
-
-    /**
-     * Creates a VersionedAddressBook using an AddressBookStateList.
-     * @param addressBookStateList List of AddressBook states
-     */
-    public VersionedAddressBook(List<ReadOnlyAddressBook> addressBookStateList) {
-        super();
-        this.addressBookStateList = addressBookStateList;
-        currentStatePointer = addressBookStateList.size() - 1;
-    }
+    private AddressBookChange pendingChange;
+    private int historySize;
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
      * @param toBeCopied AddressBook to be copied
      */
     public VersionedAddressBook(ReadOnlyAddressBook toBeCopied) {
-        super();
-        resetData(toBeCopied);
-        this.addressBookStateList = new ArrayList<>();
-        this.currentStatePointer = -1;
-        this.commit();
+        this(toBeCopied, DEFAULT_HISTORY_LIMIT, DEFAULT_HISTORY_SIZE_LIMIT);
     }
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied} and an AddressBookStateList.
+     * Creates an AddressBook using the Persons in the {@code toBeCopied} with a bounded undo/redo history.
      * @param toBeCopied AddressBook to be copied
-     * @param addressBookStateList List of AddressBook states
+     * @param historyLimit Maximum number of states that can be undone
+     * @param historySizeLimit Maximum number of persons recorded across all undoable and redoable states
      */
-    public VersionedAddressBook(ReadOnlyAddressBook toBeCopied, List<ReadOnlyAddressBook> addressBookStateList) {
-        this(addressBookStateList);
-        resetData(toBeCopied);
+    public VersionedAddressBook(ReadOnlyAddressBook toBeCopied, int historyLimit, int historySizeLimit) {
+        super(toBeCopied);
+        assert historyLimit >= 0 && historySizeLimit >= 0;
+        this.historyLimit = historyLimit;
+        this.historySizeLimit = historySizeLimit;
+        pendingChange = new AddressBookChange();
     }
 
     //// history operations
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the last commit as a new state that can be undone.
+     * Undone states are removed from the history.
      */
     public void commit() {
-        requireNonNull(addressBookStateList);
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer = addressBookStateList.size() - 1;
+        redoHistory.forEach(change -> historySize -= change.getSize());
+        redoHistory.clear();
+        undoHistory.push(pendingChange);
+        historySize += pendingChange.getSize();
+        pendingChange = new AddressBookChange();
+        trimHistory();
     }
 
     /**
      * Restores the address book to its previous state.
+     * Changes that have not been committed are discarded.
      */
     public void undo() throws CannotUndoAddressBookException {
         if (!canUndo()) {
             throw new CannotUndoAddressBookException("AddressBook cannot be undone anymore!");
         }
-        currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        AddressBookChange change = undoHistory.pop();
+        discardPendingChange();
+        change.revert(getUniquePersonList());
+        redoHistory.push(change);
     }
 
     /**
      * Restores the address book to its previously undone state.
+     * Changes that have not been committed are discarded.
      */
     public void redo() throws CannotRedoAddressBookException {
         if (!canRedo()) {
             throw new CannotRedoAddressBookException("AddressBook cannot be redone anymore!");
         }
-        currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        AddressBookChange change = redoHistory.pop();
+        discardPendingChange();
+        change.apply(getUniquePersonList());
+        undoHistory.push(change);
     }
 
     /**
-     * Removes all states after the current pointer.
+     * Reverts the changes made since the last commit.
      */
-    private void removeStatesAfterCurrentPointer() {
-        assert currentStatePointer < addressBookStateList.size();
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+    private void discardPendingChange() {
+        pendingChange.revert(getUniquePersonList());
+        pendingChange = new AddressBookChange();
     }
 
     /**
-     * Returns true if {@code undo()} has address book states to undo.
+     * Drops the oldest undoable states until the history is within its limits.
      */
-    public boolean canUndo() {
-        return currentStatePointer > 0;
+    private void trimHistory() {
+        while (undoHistory.size() > historyLimit
+                || (historySize > historySizeLimit && !undoHistory.isEmpty())) {
+            historySize -= undoHistory.removeLast().getSize();
+        }
     }
 
     /**
-     * Returns true if {@code redo()} has address book states to redo.
+     * Returns true if {@code undo()} has address book states to undo.
      */
-    public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
     }
 
-    //// list overwrite operations
-
     /**
-     * Replaces the contents of the person list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * Returns true if {@code redo()} has address book states to redo.
      */
-    public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
     }
 
     /**
-     * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Returns the number of states that can currently be undone.
      */
-    public void resetData(ReadOnlyAddressBook newData) {
-        requireNonNull(newData);
-
-        setPersons(newData.getPersonList());
+    public int getUndoableStateCount() {
+        return undoHistory.size();
     }
 
-    //// person-level operations
-
-    /**
-     * Returns true if a person with the same identity as {@code person} exists in
-     * the clinkedin book.
-     */
-    public boolean hasPerson(Person person) {
-        requireNonNull(person);
-        return persons.contains(person);
-    }
+    //// list overwrite operations
 
-    /**
-     * Adds a person to the clinkedin book.
-     * The person must not already exist in the clinkedin book.
-     */
-    public void addPerson(Person p) {
-        persons.add(p);
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> oldPersons = new ArrayList<>(getPersonList());
+        super.setPersons(persons);
+        recordReplace(oldPersons);
     }
 
-    /**
-     * Replaces the given person {@code target} in the list with
-     * {@code editedPerson}.
-     * {@code target} must exist in the clinkedin book.
-     * The person identity of {@code editedPerson} must not be the same as another
-     * existing person in the clinkedin book.
-     */
-    public void setPerson(Person target, Person editedPerson) {
-        requireNonNull(editedPerson);
-
-        persons.setPerson(target, editedPerson);
+    @Override
+    public void resetData(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        if (pendingChange == null) {
+            // called from the AddressBook constructor, before there is any history to record into
+            super.resetData(newData);
+            return;
+        }
+        List<Person> oldPersons = new ArrayList<>(getPersonList());
+        super.resetData(newData);
+        recordReplace(oldPersons);
     }
 
-    /**
-     * Removes {@code key} from this {@code AddressBook}.
-     * {@code key} must exist in the clinkedin book.
-     */
-    public void removePerson(Person key) {
-        persons.remove(key);
+    private void recordReplace(List<Person> oldPersons) {
+        pendingChange.recordReplace(oldPersons, getPersonList());
     }
 
-    //// util methods
-
-    @Override
-    public String toString() {
-        return persons.asUnmodifiableObservableList().size() + " persons";
-        // TODO: refine later
-    }
+    //// person-level operations
 
     @Override
-    public ObservableList<Person> getPersonList() {
-        return persons.asUnmodifiableObservableList();
-    }
-
-    public List<ReadOnlyAddressBook> getAddressBookStateList() {
-        return addressBookStateList;
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        pendingChange.recordAdd(getCount() - 1, p);
     }
 
     @Override
-    public int getCount() {
-        return persons.getCount();
+    public void addPersons(List<Person> persons) {
+        int index = getCount();
+        super.addPersons(persons);
+        pendingChange.recordAddAll(index, persons);
     }
 
     @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof VersionedAddressBook // instanceof handles nulls
-                && persons.equals(((VersionedAddressBook) other).persons));
+    public void setPerson(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+        int index = getPersonList().indexOf(target);
+        super.setPerson(target, editedPerson);
+        pendingChange.recordSet(index, target, editedPerson);
     }
 
     @Override
-    public int hashCode() {
-        return persons.hashCode();
+    public void removePerson(Person key) {
+        int index = getPersonList().indexOf(key);
+        super.removePerson(key);
+        pendingChange.recordRemove(index, key);
     }
 }
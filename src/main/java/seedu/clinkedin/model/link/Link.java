@@ -2,6 +2,8 @@ package seedu.clinkedin.model.link;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an optional note about a person in the clinkedin book.
  * Guarantees: immutable; is valid as declared in {@link #isValidLink(String)}
@@ -13,6 +15,7 @@ public class Link {
             + "Blank links will be ignored.";
     public static final String VALIDATION_REGEX =
             "^(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String link;
 
@@ -75,7 +78,7 @@ public class Link {
      * Returns true if a given string is a valid link.
      */
     public static boolean isValidLink(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.clinkedin.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's clinkedin in the clinkedin book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -16,6 +18,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -34,7 +37,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
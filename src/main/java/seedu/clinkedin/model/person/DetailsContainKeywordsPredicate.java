@@ -1,21 +1,40 @@
 package seedu.clinkedin.model.person;
 
+import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.clinkedin.commons.util.StringUtil;
 import seedu.clinkedin.logic.parser.Prefix;
+import seedu.clinkedin.model.tag.Tag;
+import seedu.clinkedin.model.tag.TagType;
 import seedu.clinkedin.model.tag.UniqueTagList;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * The keywords are compiled when the predicate is created: they are trimmed and lower-cased, tag types are looked
+ * up from their prefixes, and the fields are checked cheapest first, so that testing a person does not allocate.
  */
 public class DetailsContainKeywordsPredicate implements Predicate<Person> {
+    // Weights of a keyword occurrence in each field when ranking persons by score(Person)
+    public static final int NAME_WEIGHT = 8;
+    public static final int TAG_WEIGHT = 4;
+    public static final int DETAIL_WEIGHT = 2;
+    public static final int NOTE_WEIGHT = 1;
+
+    private static final String MESSAGE_EMPTY_WORD = "Word parameter cannot be empty";
+    private static final String MESSAGE_MULTIPLE_WORDS = "Word parameter should be a single word";
+    private static final String MESSAGE_EMPTY_SEQUENCE = "Sequence parameter cannot be empty";
+
     private final List<String> keywords;
     private final Set<Name> nameKeywords;
     private final Set<Phone> phoneKeywords;
@@ -26,21 +45,27 @@ public class DetailsContainKeywordsPredicate implements Predicate<Person> {
     private final Set<Rating> ratingKeywords;
     private final Map<Prefix, List<String>> tagMap;
 
+    // Compiled form of the keywords above
+    private String invalidKeywordMessage;
+    private final String[] lowerCaseKeywords;
+    private final boolean[] isMatchingRating = new boolean[Rating.MAX_RATING + 1];
+    private final String[] lowerCaseStatusKeywords;
+    private final String[] lowerCasePhoneKeywords;
+    private final String[] lowerCaseNameKeywords;
+    private final String[] lowerCaseEmailKeywords;
+    private final String[] lowerCaseAddressKeywords;
+    private final String[] lowerCaseNoteKeywords;
+    private final TagType[] tagTypes;
+    private final String[][] lowerCaseTagKeywords;
+
     /**
      * Constructor for DetailsContainKeywordsPredicate.
      *
      * @param keywords List of keywords to search for.
      */
     public DetailsContainKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
-        this.nameKeywords = new HashSet<>();
-        this.phoneKeywords = new HashSet<>();
-        this.emailKeywords = new HashSet<>();
-        this.addressKeywords = new HashSet<>();
-        this.statusKeywords = new HashSet<>();
-        this.noteKeywords = new HashSet<>();
-        this.tagMap = new HashMap<>();
-        this.ratingKeywords = new HashSet<>();
+        this(keywords, new HashSet<>(), new HashSet<>(), new HashSet<>(), new HashSet<>(), new HashSet<>(),
+                new HashSet<>(), new HashSet<>(), new HashMap<>());
     }
 
     /**
@@ -56,55 +81,251 @@ public class DetailsContainKeywordsPredicate implements Predicate<Person> {
                                            Set<Address> addressKeywords, Set<Status> statusKeywords,
                                            Set<Note> noteKeywords, Set<Rating> ratingKeywords,
                                            Map<Prefix, List<String>> prefToStrings) {
-        this.keywords = new ArrayList<>();
+        this(new ArrayList<>(), nameKeywords, phoneKeywords, emailKeywords, addressKeywords, statusKeywords,
+                noteKeywords, ratingKeywords, prefToStrings);
+    }
+
+    private DetailsContainKeywordsPredicate(List<String> keywords, Set<Name> nameKeywords,
+                                            Set<Phone> phoneKeywords, Set<Email> emailKeywords,
+                                            Set<Address> addressKeywords, Set<Status> statusKeywords,
+                                            Set<Note> noteKeywords, Set<Rating> ratingKeywords,
+                                            Map<Prefix, List<String>> prefToStrings) {
+        this.keywords = keywords;
         this.nameKeywords = nameKeywords;
         this.phoneKeywords = phoneKeywords;
         this.emailKeywords = emailKeywords;
         this.addressKeywords = addressKeywords;
         this.statusKeywords = statusKeywords;
         this.noteKeywords = noteKeywords;
-        this.tagMap = prefToStrings;
         this.ratingKeywords = ratingKeywords;
+        this.tagMap = prefToStrings;
+
+        lowerCaseKeywords = compileWords(keywords);
+        for (int rating = 0; rating <= Rating.MAX_RATING; rating++) {
+            String ratingString = Integer.toString(rating);
+            isMatchingRating[rating] = ratingKeywords.stream()
+                    .anyMatch(keyword -> ratingString.contains(keyword.toString().trim().toLowerCase()));
+        }
+        lowerCaseStatusKeywords = compileSequences(statusKeywords.stream().map(Status::toString));
+        lowerCasePhoneKeywords = compileSequences(phoneKeywords.stream().map(phone -> phone.value));
+        lowerCaseNameKeywords = compileSequences(nameKeywords.stream().map(name -> name.fullName));
+        lowerCaseEmailKeywords = compileSequences(emailKeywords.stream().map(email -> email.value));
+        lowerCaseAddressKeywords = compileSequences(addressKeywords.stream().map(address -> address.value));
+        lowerCaseNoteKeywords = compileSequences(noteKeywords.stream().map(note -> note.value));
+
+        List<Prefix> searchedPrefixes = prefToStrings.keySet().stream()
+                .filter(prefix -> !prefToStrings.get(prefix).isEmpty())
+                .collect(Collectors.toList());
+        tagTypes = new TagType[searchedPrefixes.size()];
+        lowerCaseTagKeywords = new String[searchedPrefixes.size()][];
+        for (int i = 0; i < searchedPrefixes.size(); i++) {
+            tagTypes[i] = UniqueTagTypeMap.getTagTypeFromPrefix(searchedPrefixes.get(i));
+            lowerCaseTagKeywords[i] = compileSequences(prefToStrings.get(searchedPrefixes.get(i)).stream());
+        }
+    }
+
+    /**
+     * Returns the trimmed, lower-cased {@code words}, noting the first word that is empty or not a single word.
+     */
+    private String[] compileWords(List<String> words) {
+        String[] compiled = new String[words.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            String preppedWord = words.get(i).trim();
+            if (preppedWord.isEmpty()) {
+                noteInvalidKeyword(MESSAGE_EMPTY_WORD);
+            } else if (preppedWord.split("\\s+").length != 1) {
+                noteInvalidKeyword(MESSAGE_MULTIPLE_WORDS);
+            }
+            compiled[i] = preppedWord.toLowerCase();
+        }
+        return compiled;
+    }
+
+    /**
+     * Returns the trimmed, lower-cased {@code sequences}, noting any sequence that is empty.
+     */
+    private String[] compileSequences(Stream<String> sequences) {
+        String[] compiled = sequences.map(sequence -> sequence.trim().toLowerCase()).toArray(String[]::new);
+        for (String sequence : compiled) {
+            if (sequence.isEmpty()) {
+                noteInvalidKeyword(MESSAGE_EMPTY_SEQUENCE);
+            }
+        }
+        return compiled;
+    }
+
+    private void noteInvalidKeyword(String message) {
+        if (invalidKeywordMessage == null) {
+            invalidKeywordMessage = message;
+        }
+    }
+
+    /**
+     * Returns the untagged keywords searched for, which is empty for a search by tagged keywords.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if a keyword is empty, or an untagged keyword is not a single word.
+     */
     @Override
     public boolean test(Person person) {
-        if (!keywords.isEmpty()) {
-            return keywords.stream()
-                    .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(person.getDetailsAsString(),
-                            keyword));
-        } else {
-            for (Prefix p : tagMap.keySet()) {
-                UniqueTagList uniqueTagList = person.getTags().get(UniqueTagTypeMap.getTagTypeFromPrefix(p));
-                for (String s : tagMap.get(p)) {
-                    if (uniqueTagList == null) {
-                        break;
-                    }
-                    if (uniqueTagList.hasSequenceMatch(s)) {
-                        return true;
-                    }
+        checkArgument(invalidKeywordMessage == null, invalidKeywordMessage);
+        if (lowerCaseKeywords.length > 0) {
+            List<String> words = person.getSearchWords();
+            for (int i = 0; i < words.size(); i++) {
+                if (containsAny(words.get(i), lowerCaseKeywords)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return isMatchingRating[person.getRating().value]
+                || containsAnyIgnoreCase(person.getStatus().toString(), lowerCaseStatusKeywords)
+                || containsAnyIgnoreCase(person.getPhone().value, lowerCasePhoneKeywords)
+                || containsAnyIgnoreCase(person.getName().fullName, lowerCaseNameKeywords)
+                || containsAnyIgnoreCase(person.getEmail().value, lowerCaseEmailKeywords)
+                || containsAnyIgnoreCase(person.getAddress().value, lowerCaseAddressKeywords)
+                || containsAnyIgnoreCase(person.getNote().value, lowerCaseNoteKeywords)
+                || testTags(person);
+    }
+
+    /**
+     * Returns true if any of the {@code person}'s tags contains one of the tag keywords of its tag type.
+     */
+    private boolean testTags(Person person) {
+        for (int i = 0; i < tagTypes.length; i++) {
+            UniqueTagList uniqueTagList = person.getTags().get(tagTypes[i]);
+            if (uniqueTagList == null) {
+                continue;
+            }
+            List<Tag> tags = uniqueTagList.asUnmodifiableObservableList();
+            for (int j = 0; j < tags.size(); j++) {
+                if (containsAnyIgnoreCase(tags.get(j).tagName, lowerCaseTagKeywords[i])) {
+                    return true;
                 }
             }
-            return nameKeywords.stream()
-                    .anyMatch(keyword -> StringUtil.containsSequenceIgnoreCase(person.getName().fullName,
-                            keyword.fullName))
-                    || phoneKeywords.stream()
-                    .anyMatch(keyword -> StringUtil.containsSequenceIgnoreCase(person.getPhone().value, keyword.value))
-                    || emailKeywords.stream()
-                    .anyMatch(keyword -> StringUtil.containsSequenceIgnoreCase(person.getEmail().value, keyword.value))
-                    || addressKeywords.stream()
-                    .anyMatch(keyword -> StringUtil.containsSequenceIgnoreCase(person.getAddress().value,
-                            keyword.value))
-                    || statusKeywords.stream()
-                    .anyMatch(keyword -> StringUtil.containsSequenceIgnoreCase(person.getStatus().toString(),
-                            keyword.toString()))
-                    || noteKeywords.stream()
-                    .anyMatch(keyword -> StringUtil.containsSequenceIgnoreCase(person.getNote().value,
-                            keyword.value))
-                    || ratingKeywords.stream()
-                    .anyMatch(keyword -> StringUtil.containsSequenceIgnoreCase(person.getRating().toString(),
-                            keyword.toString()));
         }
+        return false;
+    }
+
+    /**
+     * Returns how well {@code person} matches the keywords, for ranking the persons that pass {@link #test}.
+     * Every occurrence of a keyword in a field adds the weight of that field: {@link #NAME_WEIGHT} for the name,
+     * {@link #TAG_WEIGHT} for a tag, {@link #NOTE_WEIGHT} for the note and {@link #DETAIL_WEIGHT} for any other
+     * field. Untagged keywords are counted in every field; tagged keywords only in the field they are tagged with.
+     */
+    public int score(Person person) {
+        if (lowerCaseKeywords.length > 0) {
+            int score = 0;
+            for (String keyword : lowerCaseKeywords) {
+                score += NAME_WEIGHT * StringUtil.countIgnoreCase(person.getName().fullName, keyword)
+                        + DETAIL_WEIGHT * (StringUtil.countIgnoreCase(person.getPhone().value, keyword)
+                                + StringUtil.countIgnoreCase(person.getEmail().value, keyword)
+                                + StringUtil.countIgnoreCase(person.getAddress().value, keyword)
+                                + StringUtil.countIgnoreCase(person.getStatus().toString(), keyword)
+                                + StringUtil.countIgnoreCase(person.getRating().toString(), keyword))
+                        + NOTE_WEIGHT * StringUtil.countIgnoreCase(person.getNote().value, keyword);
+                for (UniqueTagList tags : person.getTags().values()) {
+                    score += TAG_WEIGHT * countInTags(tags, keyword);
+                }
+            }
+            return score;
+        }
+        int score = NAME_WEIGHT * countAll(person.getName().fullName, lowerCaseNameKeywords)
+                + DETAIL_WEIGHT * (countAll(person.getPhone().value, lowerCasePhoneKeywords)
+                        + countAll(person.getEmail().value, lowerCaseEmailKeywords)
+                        + countAll(person.getAddress().value, lowerCaseAddressKeywords)
+                        + countAll(person.getStatus().toString(), lowerCaseStatusKeywords)
+                        + (isMatchingRating[person.getRating().value] ? 1 : 0))
+                + NOTE_WEIGHT * countAll(person.getNote().value, lowerCaseNoteKeywords);
+        for (int i = 0; i < tagTypes.length; i++) {
+            UniqueTagList tags = person.getTags().get(tagTypes[i]);
+            if (tags == null) {
+                continue;
+            }
+            for (String keyword : lowerCaseTagKeywords[i]) {
+                score += TAG_WEIGHT * countInTags(tags, keyword);
+            }
+        }
+        return score;
+    }
+
+    private static int countAll(String text, String[] lowerCaseSequences) {
+        int count = 0;
+        for (String sequence : lowerCaseSequences) {
+            count += StringUtil.countIgnoreCase(text, sequence);
+        }
+        return count;
+    }
+
+    private static int countInTags(UniqueTagList tags, String lowerCaseSequence) {
+        int count = 0;
+        for (Tag tag : tags) {
+            count += StringUtil.countIgnoreCase(tag.tagName, lowerCaseSequence);
+        }
+        return count;
+    }
+
+    private static boolean containsAny(String lowerCaseText, String[] lowerCaseSequences) {
+        for (String sequence : lowerCaseSequences) {
+            if (lowerCaseText.contains(sequence)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAnyIgnoreCase(String text, String[] lowerCaseSequences) {
+        for (String sequence : lowerCaseSequences) {
+            if (StringUtil.containsIgnoreCase(text, sequence)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Set<Name> getNameKeywords() {
+        return nameKeywords;
+    }
+
+    Set<Phone> getPhoneKeywords() {
+        return phoneKeywords;
+    }
+
+    Set<Email> getEmailKeywords() {
+        return emailKeywords;
+    }
+
+    Set<Address> getAddressKeywords() {
+        return addressKeywords;
+    }
+
+    Set<Status> getStatusKeywords() {
+        return statusKeywords;
+    }
+
+    Set<Note> getNoteKeywords() {
+        return noteKeywords;
+    }
+
+    Set<Rating> getRatingKeywords() {
+        return ratingKeywords;
+    }
+
+    /**
+     * Returns the trimmed, lower-cased tag keywords searched for, by the tag type they are searched in.
+     */
+    Map<TagType, String[]> getLowerCaseTagKeywords() {
+        Map<TagType, String[]> tagKeywords = new HashMap<>();
+        for (int i = 0; i < tagTypes.length; i++) {
+            tagKeywords.put(tagTypes[i], lowerCaseTagKeywords[i]);
+        }
+        return tagKeywords;
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.clinkedin.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in the clinkedin book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -30,6 +32,7 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -48,7 +51,7 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
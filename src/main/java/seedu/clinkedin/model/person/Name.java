@@ -3,6 +3,8 @@ package seedu.clinkedin.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
 
+import seedu.clinkedin.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the clinkedin book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -35,7 +37,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWords(test);
     }
 
 
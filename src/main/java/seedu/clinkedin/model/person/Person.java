@@ -3,12 +3,15 @@ package seedu.clinkedin.model.person;
 import static seedu.clinkedin.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import javafx.beans.InvalidationListener;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableMap;
 import seedu.clinkedin.model.link.Link;
 import seedu.clinkedin.model.person.exceptions.TagTypeNotFoundException;
@@ -35,11 +38,16 @@ public class Person {
     private final Rating rating;
     private final Set<Link> links = new HashSet<>();
 
+    // Cached lower-cased words of getDetailsAsString(), discarded whenever the tags change.
+    private volatile List<String> searchWords;
+    // Listens to the tag type map and to each of its tag lists, which can be changed through getTags().
+    private final InvalidationListener searchWordsInvalidator = unused -> searchWords = null;
+
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, UniqueTagTypeMap tagTypeMap, Status status) {
-        this(name, phone, email, address, tagTypeMap, status, new Note(""), new Rating("0"),
+        this(name, phone, email, address, tagTypeMap, status, new Note(""), Rating.of("0"),
                 new HashSet<Link>());
     }
 
@@ -48,7 +56,7 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address, UniqueTagTypeMap tagTypeMap,
                   Status status, Note note, Set<Link> links) {
-        this(name, phone, email, address, tagTypeMap, status, note, new Rating("0"), links);
+        this(name, phone, email, address, tagTypeMap, status, note, Rating.of("0"), links);
     }
 
     /**
@@ -74,6 +82,17 @@ public class Person {
         this.note = note;
         this.rating = rating;
         this.links.addAll(links);
+        ObservableMap<TagType, UniqueTagList> tags = tagTypeMap.asUnmodifiableObservableMap();
+        tags.values().forEach(tagList -> tagList.asUnmodifiableObservableList().addListener(searchWordsInvalidator));
+        tags.addListener((MapChangeListener<TagType, UniqueTagList>) change -> {
+            searchWords = null;
+            if (change.wasRemoved()) {
+                change.getValueRemoved().asUnmodifiableObservableList().removeListener(searchWordsInvalidator);
+            }
+            if (change.wasAdded()) {
+                change.getValueAdded().asUnmodifiableObservableList().addListener(searchWordsInvalidator);
+            }
+        });
     }
     public Name getName() {
         return name;
@@ -174,6 +193,20 @@ public class Person {
                 tagTypeMap, note, rating, links);
     }
 
+    /**
+     * Returns the lower-cased words of {@link #getDetailsAsString()}, split on whitespace.
+     * The words are computed once and reused until the tags of this person change, so that searching the
+     * same persons repeatedly does not rebuild their details.
+     */
+    public List<String> getSearchWords() {
+        List<String> words = searchWords;
+        if (words == null) {
+            words = Collections.unmodifiableList(Arrays.asList(getDetailsAsString().toLowerCase().split("\\s+")));
+            searchWords = words;
+        }
+        return words;
+    }
+
     public List<String[]> getDetailsAsArray() {
         List<String[]> personDetails = new ArrayList<>();
         personDetails.add(new String[]{"Name", name.fullName});
@@ -243,6 +276,13 @@ public class Person {
         return builder.toString();
     }
 
+    /**
+     * Returns a copy of this person with {@code tagTypeMap} as its tags.
+     */
+    public Person withTagTypeMap(UniqueTagTypeMap tagTypeMap) {
+        return new Person(name, phone, email, address, tagTypeMap, status, note, rating, links);
+    }
+
     /**
      * Deletes tagType for the person if present.
      */
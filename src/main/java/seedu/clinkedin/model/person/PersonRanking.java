@@ -0,0 +1,98 @@
+package seedu.clinkedin.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * The persons that best match a {@code DetailsContainKeywordsPredicate}, ranked by
+ * {@link DetailsContainKeywordsPredicate#score(Person)}.
+ * Persons with the same score keep their order in the address book.
+ * Only the best {@code limit} persons are kept, in a heap bounded to that size, so ranking a large address book
+ * does not sort every matching person.
+ * Kept persons are known by name, so a kept person that is replaced by an edited copy, such as when its tag types
+ * change, keeps its rank as long as the copy still matches.
+ */
+public class PersonRanking implements Comparator<Person> {
+
+    private final DetailsContainKeywordsPredicate predicate;
+    private final Map<Name, Integer> ranks = new HashMap<>();
+    private final Set<Person> rankedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final int matchCount;
+
+    /**
+     * Ranks {@code matches}, the persons that match {@code predicate} in address book order, keeping the best
+     * {@code limit}.
+     * The persons are only scored, not tested against {@code predicate} again, so they can be found with an
+     * indexed or parallel filter first.
+     */
+    public PersonRanking(List<Person> matches, DetailsContainKeywordsPredicate predicate, int limit) {
+        requireNonNull(matches);
+        requireNonNull(predicate);
+        checkArgument(limit > 0, "Limit must be positive");
+        this.predicate = predicate;
+
+        // the worst of the best persons found so far is at the head of the heap
+        PriorityQueue<ScoredPerson> best = new PriorityQueue<>(Math.min(limit, matches.size()) + 1,
+                Comparator.comparingInt((ScoredPerson scoredPerson) -> scoredPerson.score)
+                        .thenComparingInt(scoredPerson -> -scoredPerson.index));
+        for (int i = 0; i < matches.size(); i++) {
+            Person person = matches.get(i);
+            ScoredPerson scoredPerson = new ScoredPerson(person, predicate.score(person), i);
+            if (best.size() < limit) {
+                best.add(scoredPerson);
+            } else if (best.comparator().compare(scoredPerson, best.peek()) > 0) {
+                best.poll();
+                best.add(scoredPerson);
+            }
+        }
+        matchCount = matches.size();
+        for (int rank = best.size() - 1; rank >= 0; rank--) {
+            Person person = best.poll().person;
+            ranks.put(person.getName(), rank);
+            rankedPersons.add(person);
+        }
+    }
+
+    /**
+     * Returns the number of persons that matched, including those not kept.
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Returns true if {@code person} is one of the best matching persons kept, or a copy of one that still matches.
+     */
+    public boolean contains(Person person) {
+        return ranks.containsKey(person.getName()) && (rankedPersons.contains(person) || predicate.test(person));
+    }
+
+    /**
+     * Orders the kept persons from best to worst match.
+     */
+    @Override
+    public int compare(Person first, Person second) {
+        return Integer.compare(ranks.get(first.getName()), ranks.get(second.getName()));
+    }
+
+    private static class ScoredPerson {
+        private final Person person;
+        private final int score;
+        private final int index;
+
+        ScoredPerson(Person person, int score, int index) {
+            this.person = person;
+            this.score = score;
+            this.index = index;
+        }
+    }
+}
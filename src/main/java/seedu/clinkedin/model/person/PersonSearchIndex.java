@@ -0,0 +1,222 @@
+package seedu.clinkedin.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An inverted index from the words in each {@code Person}'s details to the persons containing them.
+ * Keyword searches are answered by scanning the distinct words of the whole address book, which is far smaller
+ * than the address book itself, and taking the union of the persons listed under each matching word.
+ * Searches by field, such as {@code n/} or {@code e/}, are answered from a {@link SubstringIndex} over that field,
+ * and searches by tag from a {@link PersonTagIndex}.
+ * The indexes keep themselves up to date by listening to changes in the person list they are built over.
+ *
+ * Persons are tracked by identity, as a {@code Person}'s tags can be changed after it has been indexed.
+ */
+public class PersonSearchIndex {
+
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+    private final Map<Person, Set<String>> wordsByPerson = new IdentityHashMap<>();
+    private final SubstringIndex nameIndex = new SubstringIndex(person -> person.getName().fullName);
+    private final SubstringIndex phoneIndex = new SubstringIndex(person -> person.getPhone().value);
+    private final SubstringIndex emailIndex = new SubstringIndex(person -> person.getEmail().value);
+    private final SubstringIndex addressIndex = new SubstringIndex(person -> person.getAddress().value);
+    private final SubstringIndex statusIndex = new SubstringIndex(person -> person.getStatus().toString());
+    private final SubstringIndex noteIndex = new SubstringIndex(person -> person.getNote().value);
+    private final SubstringIndex ratingIndex = new SubstringIndex(person -> person.getRating().toString());
+    private final List<SubstringIndex> fieldIndexes = Arrays.asList(nameIndex, phoneIndex, emailIndex,
+            addressIndex, statusIndex, noteIndex, ratingIndex);
+    private final PersonTagIndex tagIndex = new PersonTagIndex();
+    private int version;
+
+    /**
+     * Creates an index over {@code persons} that is updated whenever {@code persons} changes.
+     */
+    public PersonSearchIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        version++;
+    }
+
+    private void add(Person person) {
+        Set<String> words = toWords(person);
+        wordsByPerson.put(person, words);
+        for (String word : words) {
+            personsByWord.computeIfAbsent(word, unused -> newIdentitySet()).add(person);
+        }
+        fieldIndexes.forEach(fieldIndex -> fieldIndex.add(person));
+        tagIndex.add(person);
+    }
+
+    private void remove(Person person) {
+        Set<String> words = wordsByPerson.remove(person);
+        if (words == null) {
+            return;
+        }
+        fieldIndexes.forEach(fieldIndex -> fieldIndex.remove(person));
+        tagIndex.remove(person);
+        for (String word : words) {
+            Set<Person> persons = personsByWord.get(word);
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct lower-cased words in the details of {@code person}.
+     */
+    private static Set<String> toWords(Person person) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : person.getSearchWords()) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns the index of the persons' tags, which is kept up to date with this index.
+     */
+    public PersonTagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Returns the persons with a word in their details that contains any of the {@code keywords}, ignoring case.
+     * Gives the same result as testing every person with
+     * {@link seedu.clinkedin.commons.util.StringUtil#containsPartialWordIgnoreCase(String, String)}.
+     */
+    public Set<Person> search(List<String> keywords) {
+        requireNonNull(keywords);
+        String[] preppedKeywords = keywords.stream().map(keyword -> keyword.trim().toLowerCase())
+                .toArray(String[]::new);
+        Set<Person> matches = newIdentitySet();
+        for (Map.Entry<String, Set<Person>> entry : personsByWord.entrySet()) {
+            String word = entry.getKey();
+            for (String keyword : preppedKeywords) {
+                if (word.contains(keyword)) {
+                    matches.addAll(entry.getValue());
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons with a field or tag that contains one of the keywords given for it, ignoring case.
+     * Gives the same result as testing every person against the tagged keywords of {@code predicate}.
+     */
+    Set<Person> search(DetailsContainKeywordsPredicate predicate) {
+        Set<Person> matches = newIdentitySet();
+        predicate.getNameKeywords().forEach(keyword -> nameIndex.search(keyword.fullName, matches));
+        predicate.getPhoneKeywords().forEach(keyword -> phoneIndex.search(keyword.value, matches));
+        predicate.getEmailKeywords().forEach(keyword -> emailIndex.search(keyword.value, matches));
+        predicate.getAddressKeywords().forEach(keyword -> addressIndex.search(keyword.value, matches));
+        predicate.getStatusKeywords().forEach(keyword -> statusIndex.search(keyword.toString(), matches));
+        predicate.getNoteKeywords().forEach(keyword -> noteIndex.search(keyword.value, matches));
+        predicate.getRatingKeywords().forEach(keyword -> ratingIndex.search(keyword.toString(), matches));
+        predicate.getLowerCaseTagKeywords().forEach((tagType, keywords) -> {
+            for (String keyword : keywords) {
+                tagIndex.search(tagType, keyword, matches);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from this index where possible.
+     */
+    public Predicate<Person> optimise(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (!(predicate instanceof DetailsContainKeywordsPredicate)) {
+            return predicate;
+        }
+        DetailsContainKeywordsPredicate detailsPredicate = (DetailsContainKeywordsPredicate) predicate;
+        List<String> keywords = detailsPredicate.getKeywords();
+        if (!keywords.isEmpty()) {
+            if (keywords.stream().anyMatch(keyword -> keyword.trim().isEmpty())) {
+                return predicate;
+            }
+            return new IndexedPredicate(() -> search(keywords));
+        }
+        if (!hasTaggedKeywords(detailsPredicate)) {
+            return predicate;
+        }
+        return new IndexedPredicate(() -> search(detailsPredicate));
+    }
+
+    /**
+     * Returns true if {@code predicate} searches by at least one field or tag, and none of its keywords are blank.
+     * A blank keyword is rejected when {@code predicate} is tested, so such predicates are left as they are.
+     */
+    private static boolean hasTaggedKeywords(DetailsContainKeywordsPredicate predicate) {
+        List<String> taggedKeywords = new ArrayList<>();
+        predicate.getNameKeywords().forEach(keyword -> taggedKeywords.add(keyword.fullName));
+        predicate.getPhoneKeywords().forEach(keyword -> taggedKeywords.add(keyword.value));
+        predicate.getEmailKeywords().forEach(keyword -> taggedKeywords.add(keyword.value));
+        predicate.getAddressKeywords().forEach(keyword -> taggedKeywords.add(keyword.value));
+        predicate.getStatusKeywords().forEach(keyword -> taggedKeywords.add(keyword.toString()));
+        predicate.getNoteKeywords().forEach(keyword -> taggedKeywords.add(keyword.value));
+        predicate.getRatingKeywords().forEach(keyword -> taggedKeywords.add(keyword.toString()));
+        predicate.getLowerCaseTagKeywords().values()
+                .forEach(tagKeywords -> taggedKeywords.addAll(Arrays.asList(tagKeywords)));
+        return !taggedKeywords.isEmpty() && taggedKeywords.stream().noneMatch(keyword -> keyword.trim().isEmpty());
+    }
+
+    /**
+     * Tests persons against the result of a search on this index.
+     * The search is redone lazily whenever the index has changed since it was last done, so the predicate stays
+     * correct for persons added or edited while it is in use.
+     */
+    private class IndexedPredicate implements Predicate<Person> {
+        private final Supplier<Set<Person>> search;
+        private Set<Person> matches;
+        private int matchesVersion;
+
+        IndexedPredicate(Supplier<Set<Person>> search) {
+            this.search = search;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matches == null || matchesVersion != version) {
+                matches = search.get();
+                matchesVersion = version;
+            }
+            return matches.contains(person);
+        }
+    }
+}
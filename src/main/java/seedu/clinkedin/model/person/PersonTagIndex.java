@@ -0,0 +1,124 @@
+package seedu.clinkedin.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.clinkedin.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.clinkedin.commons.util.StringUtil;
+import seedu.clinkedin.model.tag.Tag;
+import seedu.clinkedin.model.tag.TagType;
+import seedu.clinkedin.model.tag.UniqueTagList;
+
+/**
+ * A reverse index from each tag type, and each tag of that type, to the persons carrying it.
+ * Changes to a tag type only need to visit the persons that have it, and searches by tag only need to check the
+ * distinct tags of a tag type rather than the tags of every person.
+ *
+ * The tags of each person are recorded when it is added, so that it can be removed from the index without
+ * reading its current tags.
+ */
+public class PersonTagIndex {
+
+    private final Map<TagType, Map<Tag, Set<Person>>> personsByTag = new HashMap<>();
+    private final Map<TagType, Set<Person>> personsByTagType = new HashMap<>();
+    private final Map<Person, Map<TagType, List<Tag>>> tagsByPerson = new IdentityHashMap<>();
+
+    void add(Person person) {
+        Map<TagType, List<Tag>> tags = new HashMap<>();
+        for (Map.Entry<TagType, UniqueTagList> entry : person.getTags().entrySet()) {
+            TagType tagType = entry.getKey();
+            List<Tag> tagList = new ArrayList<>(entry.getValue().asUnmodifiableObservableList());
+            tags.put(tagType, tagList);
+            personsByTagType.computeIfAbsent(tagType, unused -> newIdentitySet()).add(person);
+            Map<Tag, Set<Person>> personsByTagOfType = personsByTag.computeIfAbsent(tagType,
+                    unused -> new HashMap<>());
+            for (Tag tag : tagList) {
+                personsByTagOfType.computeIfAbsent(tag, unused -> newIdentitySet()).add(person);
+            }
+        }
+        tagsByPerson.put(person, tags);
+    }
+
+    void remove(Person person) {
+        Map<TagType, List<Tag>> tags = tagsByPerson.remove(person);
+        if (tags == null) {
+            return;
+        }
+        for (Map.Entry<TagType, List<Tag>> entry : tags.entrySet()) {
+            TagType tagType = entry.getKey();
+            removeFrom(personsByTagType, tagType, person);
+            Map<Tag, Set<Person>> personsByTagOfType = personsByTag.get(tagType);
+            for (Tag tag : entry.getValue()) {
+                removeFrom(personsByTagOfType, tag, person);
+            }
+            if (personsByTagOfType.isEmpty()) {
+                personsByTag.remove(tagType);
+            }
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Person>> personsByKey, K key, Person person) {
+        Set<Person> persons = personsByKey.get(key);
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            personsByKey.remove(key);
+        }
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns the persons with at least one tag of {@code tagType}.
+     * The set is a copy, so the persons in it can be changed while it is iterated over.
+     */
+    public Set<Person> getPersonsWithTagType(TagType tagType) {
+        requireNonNull(tagType);
+        Set<Person> persons = newIdentitySet();
+        persons.addAll(personsByTagType.getOrDefault(tagType, Collections.emptySet()));
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons with the tag {@code tag} of {@code tagType}.
+     */
+    public int countPersons(TagType tagType, Tag tag) {
+        requireAllNonNull(tagType, tag);
+        return personsByTag.getOrDefault(tagType, Collections.emptyMap())
+                .getOrDefault(tag, Collections.emptySet()).size();
+    }
+
+    /**
+     * Returns the number of persons with each tag of {@code tagType}.
+     */
+    public Map<Tag, Integer> getTagCounts(TagType tagType) {
+        requireNonNull(tagType);
+        Map<Tag, Integer> counts = new HashMap<>();
+        personsByTag.getOrDefault(tagType, Collections.emptyMap())
+                .forEach((tag, persons) -> counts.put(tag, persons.size()));
+        return counts;
+    }
+
+    /**
+     * Adds to {@code matches} every person with a tag of {@code tagType} that contains {@code lowerCaseSequence},
+     * ignoring case.
+     * Gives the same result as testing every person against one tagged keyword of a
+     * {@link DetailsContainKeywordsPredicate}.
+     */
+    void search(TagType tagType, String lowerCaseSequence, Set<Person> matches) {
+        for (Map.Entry<Tag, Set<Person>> entry : personsByTag.getOrDefault(tagType, Collections.emptyMap())
+                .entrySet()) {
+            if (StringUtil.containsIgnoreCase(entry.getKey().tagName, lowerCaseSequence)) {
+                matches.addAll(entry.getValue());
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.clinkedin.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
 
+import seedu.clinkedin.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the clinkedin book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -13,6 +15,7 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final int MIN_LENGTH = 3;
     public final String value;
 
     /**
@@ -30,7 +33,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isDigits(test, MIN_LENGTH);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.clinkedin.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
 
+import seedu.clinkedin.commons.util.InternPool;
+
 /**
  * Represents a Person's rating in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRatingStr(String)}
@@ -11,6 +13,9 @@ public class Rating {
 
     public static final String MESSAGE_CONSTRAINTS = "Rating should only be an integer between 1 to 10 inclusive.";
     public static final String VALIDATION_REGEX = "/^([0-9]|10)$/";
+    public static final int MAX_RATING = 10;
+    private static final InternPool<String, Rating> POOL = new InternPool<>(Rating::new);
+
     public final int value;
 
     /**
@@ -25,6 +30,15 @@ public class Rating {
         value = rating;
     }
 
+    /**
+     * Returns a {@code Rating} of {@code ratingStr}, which is the same instance for every valid rating that is equal.
+     *
+     * @throws IllegalArgumentException if {@code ratingStr} is not a valid rating.
+     */
+    public static Rating of(String ratingStr) {
+        return POOL.intern(ratingStr);
+    }
+
     /**
      * Returns true if a given string can be parsed into an integer and is between 1 and 10 inclusive.
      */
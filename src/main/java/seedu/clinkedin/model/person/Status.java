@@ -3,6 +3,9 @@ package seedu.clinkedin.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
 
+import seedu.clinkedin.commons.util.InternPool;
+import seedu.clinkedin.commons.util.StringUtil;
+
 /**
  * Represents a Person's status in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStatus(String)}
@@ -18,6 +21,8 @@ public class Status {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final InternPool<String, Status> POOL = new InternPool<>(Status::new);
+
     public final String status;
 
     /**
@@ -31,11 +36,20 @@ public class Status {
         status = s;
     }
 
+    /**
+     * Returns a {@code Status} of {@code s}, which is the same instance for every valid status that is equal.
+     *
+     * @throws IllegalArgumentException if {@code s} is not a valid status.
+     */
+    public static Status of(String s) {
+        return POOL.intern(s);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidStatus(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWords(test);
     }
 
 
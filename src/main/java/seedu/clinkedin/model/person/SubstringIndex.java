@@ -0,0 +1,112 @@
+package seedu.clinkedin.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Indexes one field of a set of persons for case-insensitive substring search.
+ * Persons are grouped by the lower-cased value of the field, and every distinct value is indexed by the
+ * trigrams (three-character sequences) it contains. A query of three or more characters only needs to verify
+ * the values containing all of its trigrams; shorter queries check every distinct value.
+ */
+class SubstringIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<Person, String> field;
+    private final Map<String, Set<Person>> personsByValue = new HashMap<>();
+    private final Map<Long, Set<String>> valuesByTrigram = new HashMap<>();
+
+    /**
+     * Creates an empty index over the field of each person given by {@code field}.
+     */
+    SubstringIndex(Function<Person, String> field) {
+        this.field = field;
+    }
+
+    void add(Person person) {
+        String value = field.apply(person).toLowerCase();
+        Set<Person> persons = personsByValue.get(value);
+        if (persons == null) {
+            persons = Collections.newSetFromMap(new IdentityHashMap<>());
+            personsByValue.put(value, persons);
+            for (long trigram : trigramsOf(value)) {
+                valuesByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(value);
+            }
+        }
+        persons.add(person);
+    }
+
+    void remove(Person person) {
+        String value = field.apply(person).toLowerCase();
+        Set<Person> persons = personsByValue.get(value);
+        if (persons == null || !persons.remove(person) || !persons.isEmpty()) {
+            return;
+        }
+        personsByValue.remove(value);
+        for (long trigram : trigramsOf(value)) {
+            Set<String> values = valuesByTrigram.get(trigram);
+            values.remove(value);
+            if (values.isEmpty()) {
+                valuesByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Adds to {@code matches} every person whose field contains {@code query}, ignoring case.
+     * Gives the same result as
+     * {@link seedu.clinkedin.commons.util.StringUtil#containsSequenceIgnoreCase(String, String)}.
+     */
+    void search(String query, Set<Person> matches) {
+        String preppedQuery = query.trim().toLowerCase();
+        for (String value : candidateValues(preppedQuery)) {
+            if (value.contains(preppedQuery)) {
+                matches.addAll(personsByValue.get(value));
+            }
+        }
+    }
+
+    /**
+     * Returns the values that may contain {@code query}.
+     */
+    private Iterable<String> candidateValues(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return personsByValue.keySet();
+        }
+        List<Set<String>> postings = new ArrayList<>();
+        for (long trigram : trigramsOf(query)) {
+            Set<String> values = valuesByTrigram.get(trigram);
+            if (values == null) {
+                return Collections.emptySet();
+            }
+            postings.add(values);
+        }
+        Set<String> smallest = Collections.min(postings, (first, second) -> first.size() - second.size());
+        List<String> candidates = new ArrayList<>();
+        for (String value : smallest) {
+            if (postings.stream().allMatch(values -> values.contains(value))) {
+                candidates.add(value);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code value}, each packed into a {@code long}.
+     */
+    private static Set<Long> trigramsOf(String value) {
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            trigrams.add(((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.clinkedin.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.clinkedin.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.clinkedin.logic.parser.Prefix;
+import seedu.clinkedin.logic.parser.exceptions.DuplicatePrefixException;
+import seedu.clinkedin.logic.parser.exceptions.PrefixNotFoundException;
+import seedu.clinkedin.model.person.exceptions.DuplicateTagTypeException;
+import seedu.clinkedin.model.person.exceptions.TagTypeNotFoundException;
+import seedu.clinkedin.model.tag.TagType;
+
+/**
+ * The tag types that can be given to persons, each registered under its own prefix.
+ * Tag types can be looked up both by prefix and by name in constant time.
+ *
+ * Changes are made under a lock and published as a new immutable {@link Snapshot}, so readers on any thread never
+ * need to lock, and always see a consistent set of tag types.
+ */
+public class TagTypeRegistry {
+
+    private final Set<Prefix> reservedPrefixes;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a registry of {@code tagTypes}, in which no tag type can be registered under any of
+     * {@code reservedPrefixes}.
+     */
+    public TagTypeRegistry(Map<Prefix, TagType> tagTypes, Collection<Prefix> reservedPrefixes) {
+        requireAllNonNull(tagTypes, reservedPrefixes);
+        this.reservedPrefixes = Collections.unmodifiableSet(new HashSet<>(reservedPrefixes));
+        snapshot = new Snapshot(new LinkedHashMap<>(tagTypes));
+    }
+
+    /**
+     * Returns the tag types registered at the time of the call.
+     * Later changes to the registry do not change the snapshot returned.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Registers {@code tagType} under {@code prefix}.
+     *
+     * @throws DuplicatePrefixException if {@code prefix} is reserved or already has a tag type.
+     * @throws DuplicateTagTypeException if a tag type with the same name is already registered.
+     */
+    public synchronized void add(Prefix prefix, TagType tagType) {
+        requireAllNonNull(prefix, tagType);
+        Snapshot current = snapshot;
+        if (reservedPrefixes.contains(prefix) || current.tagTypesByPrefix.containsKey(prefix)) {
+            throw new DuplicatePrefixException();
+        }
+        if (current.prefixesByName.containsKey(tagType.getTagTypeName())) {
+            throw new DuplicateTagTypeException();
+        }
+        Map<Prefix, TagType> tagTypes = new LinkedHashMap<>(current.tagTypesByPrefix);
+        tagTypes.put(prefix, tagType);
+        snapshot = new Snapshot(tagTypes);
+    }
+
+    /**
+     * Removes {@code tagType} from the registry.
+     *
+     * @throws TagTypeNotFoundException if {@code tagType} is not registered.
+     */
+    public synchronized void remove(TagType tagType) {
+        requireNonNull(tagType);
+        Snapshot current = snapshot;
+        Prefix prefix = current.prefixesByName.get(tagType.getTagTypeName());
+        if (prefix == null || !current.tagTypesByPrefix.get(prefix).equals(tagType)) {
+            throw new TagTypeNotFoundException();
+        }
+        Map<Prefix, TagType> tagTypes = new LinkedHashMap<>(current.tagTypesByPrefix);
+        tagTypes.remove(prefix);
+        snapshot = new Snapshot(tagTypes);
+    }
+
+    /**
+     * Replaces the tag type registered under {@code oldPrefix} with {@code tagType}, registered under
+     * {@code prefix}.
+     * Nothing is changed if the replacement cannot be made.
+     *
+     * @throws PrefixNotFoundException if there is no tag type registered under {@code oldPrefix}.
+     * @throws DuplicatePrefixException if {@code prefix} is reserved or has another tag type.
+     * @throws DuplicateTagTypeException if another tag type has the same name as {@code tagType}.
+     */
+    public synchronized void replace(Prefix oldPrefix, Prefix prefix, TagType tagType) {
+        requireAllNonNull(oldPrefix, prefix, tagType);
+        Snapshot current = snapshot;
+        if (!current.tagTypesByPrefix.containsKey(oldPrefix)) {
+            throw new PrefixNotFoundException();
+        }
+        if (!prefix.equals(oldPrefix)
+                && (reservedPrefixes.contains(prefix) || current.tagTypesByPrefix.containsKey(prefix))) {
+            throw new DuplicatePrefixException();
+        }
+        Prefix prefixOfName = current.prefixesByName.get(tagType.getTagTypeName());
+        if (prefixOfName != null && !prefixOfName.equals(oldPrefix)) {
+            throw new DuplicateTagTypeException();
+        }
+        Map<Prefix, TagType> tagTypes = new LinkedHashMap<>();
+        current.tagTypesByPrefix.forEach((p, t) -> {
+            if (p.equals(oldPrefix)) {
+                tagTypes.put(prefix, tagType);
+            } else {
+                tagTypes.put(p, t);
+            }
+        });
+        snapshot = new Snapshot(tagTypes);
+    }
+
+    /**
+     * Replaces all registered tag types with {@code tagTypes}.
+     */
+    public synchronized void setTagTypes(Map<Prefix, TagType> tagTypes) {
+        requireAllNonNull(tagTypes);
+        snapshot = new Snapshot(new LinkedHashMap<>(tagTypes));
+    }
+
+    /**
+     * An immutable view of the tag types in a {@code TagTypeRegistry} at one point in time.
+     */
+    public static class Snapshot {
+        private final Map<Prefix, TagType> tagTypesByPrefix;
+        private final Map<String, Prefix> prefixesByName = new HashMap<>();
+        private final List<Prefix> prefixes;
+
+        private Snapshot(Map<Prefix, TagType> tagTypesByPrefix) {
+            this.tagTypesByPrefix = Collections.unmodifiableMap(tagTypesByPrefix);
+            tagTypesByPrefix.forEach((prefix, tagType) -> prefixesByName.put(tagType.getTagTypeName(), prefix));
+            prefixes = Collections.unmodifiableList(new ArrayList<>(tagTypesByPrefix.keySet()));
+        }
+
+        /**
+         * Returns the tag type registered under {@code prefix}, or null if there is none.
+         */
+        public TagType getTagType(Prefix prefix) {
+            return tagTypesByPrefix.get(prefix);
+        }
+
+        /**
+         * Returns the prefix of the tag type named {@code tagTypeName}, or null if there is none.
+         */
+        public Prefix getPrefix(String tagTypeName) {
+            return prefixesByName.get(tagTypeName);
+        }
+
+        /**
+         * Returns the prefixes of the registered tag types, in the order they were registered.
+         */
+        public List<Prefix> getPrefixes() {
+            return prefixes;
+        }
+
+        /**
+         * Returns an unmodifiable map from each prefix to the tag type registered under it.
+         */
+        public Map<Prefix, TagType> asMap() {
+            return tagTypesByPrefix;
+        }
+    }
+}
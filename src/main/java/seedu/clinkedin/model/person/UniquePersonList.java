@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.clinkedin.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -23,6 +25,9 @@ import seedu.clinkedin.model.person.exceptions.PersonNotFoundException;
  * a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * An index keyed by {@code Name} is kept in step with the backing list so that identity checks do not
+ * need to scan the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -32,13 +37,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
+    private Map<Name, Person> nameIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -51,6 +57,48 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        nameIndex.put(toAdd.getName(), toAdd);
+    }
+
+    /**
+     * Adds a person to the list at {@code index}, shifting later persons down by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        nameIndex.put(toAdd.getName(), toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change to the list.
+     * None of the persons may already exist in the list, or be the same person as another in {@code toAdd}.
+     */
+    public void addAll(List<Person> toAdd) {
+        addAll(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list at {@code index} as a single change to the list, shifting later persons
+     * down.
+     * None of the persons may already exist in the list, or be the same person as another in {@code toAdd}.
+     */
+    public void addAll(int index, List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Person> addedIndex = indexIfUnique(toAdd);
+        if (addedIndex == null) {
+            throw new DuplicatePersonException();
+        }
+        for (Name name : addedIndex.keySet()) {
+            if (nameIndex.containsKey(name)) {
+                throw new DuplicatePersonException();
+            }
+        }
+        internalList.addAll(index, toAdd);
+        nameIndex.putAll(addedIndex);
     }
 
     /**
@@ -62,8 +110,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(nameIndex.get(target.getName()))) {
             throw new PersonNotFoundException();
         }
 
@@ -71,7 +118,48 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = internalList.indexOf(target);
+        assert index != -1;
+        internalList.set(index, editedPerson);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedPerson.getName(), editedPerson);
+    }
+
+    /**
+     * Replaces the person at {@code index} with {@code editedPerson}.
+     * The person identity of {@code editedPerson} must not be the same as another
+     * existing person in the list.
+     */
+    public void setPerson(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+        Person target = internalList.get(index);
+        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
         internalList.set(index, editedPerson);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedPerson.getName(), editedPerson);
+    }
+
+    /**
+     * Replaces each person in the list that is a key of {@code editedPersons} with the person it maps to, in a
+     * single pass over the list.
+     * {@code editedPersons} must look up persons by identity, and each edited person must keep the name of the
+     * person it replaces. Persons not in this list are ignored.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        if (editedPersons.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < internalList.size(); i++) {
+            Person editedPerson = editedPersons.get(internalList.get(i));
+            if (editedPerson != null) {
+                assert internalList.get(i).getName().equals(editedPerson.getName());
+                internalList.set(i, editedPerson);
+                nameIndex.put(editedPerson.getName(), editedPerson);
+            }
+        }
     }
 
     /**
@@ -80,14 +168,43 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(nameIndex.get(toRemove.getName())) || !internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        nameIndex.remove(toRemove.getName());
     }
 
+    /**
+     * Removes the person at {@code index} from the list and returns it.
+     */
+    public Person remove(int index) {
+        Person removed = internalList.remove(index);
+        nameIndex.remove(removed.getName());
+        return removed;
+    }
+
+    /**
+     * Removes the persons from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, as a single change to
+     * the list.
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        for (Person removed : internalList.subList(fromIndex, toIndex)) {
+            nameIndex.remove(removed.getName());
+        }
+        internalList.remove(fromIndex, toIndex);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     * As {@code replacement} already enforces uniqueness, no duplicate check is done.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        if (replacement == this) {
+            return;
+        }
         internalList.setAll(replacement.internalList);
+        nameIndex = new HashMap<>(replacement.nameIndex);
     }
 
     /**
@@ -96,14 +213,12 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Person> replacementIndex = indexIfUnique(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
-        List<Person> copy = new ArrayList<>();
-        for (Person p: persons) {
-            copy.add(p);
-        }
-        internalList.setAll(copy);
+        internalList.setAll(new ArrayList<>(persons));
+        nameIndex = replacementIndex;
     }
 
     /**
@@ -140,16 +255,16 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns a name index of {@code persons}, or null if {@code persons} contains duplicate persons.
+     * The index is built in a single pass and becomes the new index of this list on success.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexIfUnique(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>(Math.max(16, (int) (persons.size() / 0.75f) + 1));
+        for (Person p : persons) {
+            if (index.putIfAbsent(p.getName(), p) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
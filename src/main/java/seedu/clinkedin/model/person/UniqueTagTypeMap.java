@@ -5,8 +5,8 @@ import static seedu.clinkedin.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -40,50 +40,45 @@ import seedu.clinkedin.model.tag.exceptions.TagNotFoundException;
  * @see TagType#equals(Object)
  */
 public class UniqueTagTypeMap implements Iterable<TagType> {
-    private static final Map<Prefix, TagType> initialTagTypeMap = Map.of(
-            CliSyntax.PREFIX_SKILLTAG, new TagType("Skills", CliSyntax.PREFIX_SKILLTAG),
-            CliSyntax.PREFIX_DEGREETAG, new TagType("Degree", CliSyntax.PREFIX_DEGREETAG),
-            CliSyntax.PREFIX_JOBTYPETAG, new TagType("Job Type", CliSyntax.PREFIX_JOBTYPETAG)
-    );
-    private static Map<Prefix, TagType> prefixMap = new HashMap<>(initialTagTypeMap);
+    private static final TagTypeRegistry registry = new TagTypeRegistry(getInitialTagTypes(),
+            CliSyntax.getNonTagPrefixes());
     private final ObservableMap<TagType, UniqueTagList> internalMap = FXCollections.observableMap(new HashMap<>());
     private final ObservableMap<TagType, UniqueTagList> internalUnmodifiableMap = FXCollections
             .unmodifiableObservableMap(internalMap);
 
+    private static Map<Prefix, TagType> getInitialTagTypes() {
+        Map<Prefix, TagType> tagTypes = new LinkedHashMap<>();
+        tagTypes.put(CliSyntax.PREFIX_SKILLTAG, new TagType("Skills", CliSyntax.PREFIX_SKILLTAG));
+        tagTypes.put(CliSyntax.PREFIX_DEGREETAG, new TagType("Degree", CliSyntax.PREFIX_DEGREETAG));
+        tagTypes.put(CliSyntax.PREFIX_JOBTYPETAG, new TagType("Job Type", CliSyntax.PREFIX_JOBTYPETAG));
+        return tagTypes;
+    }
+
+    /**
+     * Returns the registry of the tag types that can be given to persons.
+     */
+    public static TagTypeRegistry getRegistry() {
+        return registry;
+    }
+
     /**
      * Adds a new tag type to the existing TAG_TYPES.
      */
     public static void createTagType(Prefix prefix, TagType tagType) throws DuplicatePrefixException,
             DuplicateTagTypeException {
-        if (prefixMap.keySet().contains(prefix)) {
-            throw new DuplicatePrefixException();
-        } else if (prefixMap.values().stream().anyMatch(val -> val.getTagTypeName().equals(tagType.getTagTypeName()))) {
-            throw new DuplicateTagTypeException();
-        } else {
-            prefixMap.put(prefix, tagType);
-            CliSyntax.addTagPrefix(prefix);
-        }
+        registry.add(prefix, tagType);
     }
 
     /**
      * Removes tagType from list of tag types.
      */
     public static void removeExistingTagType(TagType tagType) throws TagTypeNotFoundException {
-        if (prefixMap.values().contains(tagType)) {
-            Prefix prefix = prefixMap.keySet().stream().filter(key -> prefixMap.get(key).equals(tagType))
-                    .collect(Collectors.toList()).get(0);
-            prefixMap.remove(prefix);
-            CliSyntax.removeTagPrefix(prefix);
-        } else {
-            throw new TagTypeNotFoundException();
-        }
+        registry.remove(tagType);
     }
 
     public static void setExistingTagType(Prefix toRemovePrefix, Prefix prefix, TagType tagType)
-            throws PrefixNotFoundException, TagTypeNotFoundException, DuplicatePrefixException {
-        prefixMap.remove(toRemovePrefix);
-        CliSyntax.removeTagPrefix(toRemovePrefix);
-        UniqueTagTypeMap.createTagType(prefix, tagType);
+            throws PrefixNotFoundException, DuplicateTagTypeException, DuplicatePrefixException {
+        registry.replace(toRemovePrefix, prefix, tagType);
     }
 
     /**
@@ -200,10 +195,16 @@ public class UniqueTagTypeMap implements Iterable<TagType> {
     /**
      * Replaces the contents of this list with {@code tagTypes}.
      * {@code tagTypes} must not contain duplicate tags.
+     * The tag lists are copied, so that changing the tags of this map does not change the tags of the
+     * person {@code tagTypes} was taken from.
      */
     public void setTagTypeMap(Map<TagType, UniqueTagList> tagTypeMap) {
         requireAllNonNull(tagTypeMap);
-        internalMap.putAll(tagTypeMap);
+        tagTypeMap.forEach((tagType, tagList) -> {
+            UniqueTagList copy = new UniqueTagList();
+            copy.setTags(tagList);
+            internalMap.put(tagType, copy);
+        });
     }
 
     /**
@@ -237,12 +238,11 @@ public class UniqueTagTypeMap implements Iterable<TagType> {
     }
 
     public static Map<Prefix, TagType> getPrefixMap() {
-        return prefixMap;
+        return registry.getSnapshot().asMap();
     }
 
     public static void setPrefixMap(Map<Prefix, TagType> map) {
-        prefixMap = map;
-        CliSyntax.setTagPrefix(map.keySet().stream().collect(Collectors.toList()));
+        registry.setTagTypes(map);
     }
 
     @Override
@@ -260,7 +260,7 @@ public class UniqueTagTypeMap implements Iterable<TagType> {
         return StreamSupport.stream(this.spliterator(), false);
     }
     public static TagType getTagType(Prefix pref) {
-        return prefixMap.get(pref);
+        return registry.getSnapshot().getTagType(pref);
     }
     @Override
     public String toString() {
@@ -272,21 +272,19 @@ public class UniqueTagTypeMap implements Iterable<TagType> {
     }
 
     public static Prefix getPrefixFromTagType(String tagType) throws TagTypeNotFoundException {
-        for (Prefix pref: prefixMap.keySet()) {
-            if (prefixMap.get(pref).getTagTypeName().equals(tagType)) {
-                return pref;
-            }
+        Prefix prefix = registry.getSnapshot().getPrefix(tagType);
+        if (prefix == null) {
+            throw new TagTypeNotFoundException();
         }
-        throw new TagTypeNotFoundException();
+        return prefix;
     }
 
     public static TagType getTagTypeFromPrefix(Prefix prefix) throws TagTypeNotFoundException {
-        for (TagType tagType: prefixMap.values()) {
-            if (tagType.getPrefix().equals(prefix)) {
-                return tagType;
-            }
+        TagType tagType = registry.getSnapshot().getTagType(prefix);
+        if (tagType == null) {
+            throw new TagTypeNotFoundException();
         }
-        throw new TagTypeNotFoundException();
+        return tagType;
     }
 
     public boolean isEmpty() {
@@ -294,6 +292,6 @@ public class UniqueTagTypeMap implements Iterable<TagType> {
     }
 
     public static boolean isExist(String otherTagType) {
-        return prefixMap.values().stream().anyMatch(tagType -> tagType.getTagTypeName().equals(otherTagType));
+        return registry.getSnapshot().getPrefix(otherTagType) != null;
     }
 }
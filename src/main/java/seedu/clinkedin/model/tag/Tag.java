@@ -3,6 +3,9 @@ package seedu.clinkedin.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
 
+import seedu.clinkedin.commons.util.InternPool;
+import seedu.clinkedin.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the clinkedin book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -14,6 +17,8 @@ public class Tag {
 
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final InternPool<String, Tag> POOL = new InternPool<>(Tag::new);
+
     public final String tagName;
 
     /**
@@ -27,11 +32,20 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} with {@code tagName}, which is the same instance for every valid tag name that is equal.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWords(test);
     }
 
     @Override
@@ -3,8 +3,11 @@ package seedu.clinkedin.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
 import java.util.Objects;
 
+import seedu.clinkedin.commons.util.InternPool;
+import seedu.clinkedin.commons.util.StringUtil;
 import seedu.clinkedin.logic.parser.Prefix;
 import seedu.clinkedin.model.person.UniqueTagTypeMap;
 
@@ -19,6 +22,9 @@ public class TagType {
 
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final InternPool<Map.Entry<String, Prefix>, TagType> POOL =
+            new InternPool<>(key -> new TagType(key.getKey(), key.getValue()));
+
     public final String tagType;
     public final Prefix p;
     /**
@@ -44,11 +50,34 @@ public class TagType {
         this.p = UniqueTagTypeMap.getPrefixFromTagType(tagType);
     }
 
+    /**
+     * Returns a {@code TagType} with {@code tagType} and prefix {@code p}, which is the same instance for every
+     * valid tag type that is equal.
+     *
+     * @throws IllegalArgumentException if {@code tagType} is not a valid tag type.
+     */
+    public static TagType of(String tagType, Prefix p) {
+        requireNonNull(tagType);
+        requireNonNull(p);
+        return POOL.intern(Map.entry(tagType, p));
+    }
+
+    /**
+     * Returns a {@code TagType} with {@code tagType} and the prefix it is registered with, which is the same
+     * instance for every valid tag type that is equal.
+     *
+     * @throws IllegalArgumentException if {@code tagType} is not a valid tag type.
+     */
+    public static TagType of(String tagType) {
+        requireNonNull(tagType);
+        return of(tagType, UniqueTagTypeMap.getPrefixFromTagType(tagType));
+    }
+
     /**
      * Returns true if a given string is a valid tag type.
      */
     public static boolean isValidTagType(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWords(test);
     }
 
     @Override
@@ -3,8 +3,10 @@ package seedu.clinkedin.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.clinkedin.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -25,6 +27,9 @@ import seedu.clinkedin.model.tag.exceptions.TagNotFoundException;
  * a tag also uses Tag#equals(Object) so
  * as to ensure that the tag with exactly the same fields will be removed.
  *
+ * A hash set of the tags is kept in step with the backing list, so that membership checks and set operations do not
+ * need to scan the list, while the list keeps the order in which the tags were added.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Tag#equals(Object)
@@ -33,13 +38,14 @@ public class UniqueTagList implements Iterable<Tag> {
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tag> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
+    private Set<Tag> tagSet = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent tag as the given argument.
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return tagSet.contains(toCheck);
     }
 
     /**
@@ -57,7 +63,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public boolean containsAll(UniqueTagList toCheck) {
         requireNonNull(toCheck);
-        return toCheck.toStream().allMatch(this::contains);
+        return tagSet.containsAll(toCheck.tagSet);
     }
     /**
      * Returns true if the list contains any of the tags of the given argument.
@@ -74,7 +80,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public void add(Tag toAdd) throws DuplicateTagException {
         requireNonNull(toAdd);
-        if (this.contains(toAdd)) {
+        if (!tagSet.add(toAdd)) {
             throw new DuplicateTagException();
         }
         internalList.add(toAdd);
@@ -89,9 +95,8 @@ public class UniqueTagList implements Iterable<Tag> {
         if (this.containsAny(toAdd)) {
             throw new DuplicateTagException();
         }
-        for (Tag t: toAdd) {
-            this.add(t);
-        }
+        internalList.addAll(toAdd.internalList);
+        tagSet.addAll(toAdd.tagSet);
     }
 
     /**
@@ -103,8 +108,7 @@ public class UniqueTagList implements Iterable<Tag> {
     public void setTag(Tag target, Tag editedTag) throws TagNotFoundException, DuplicateTagException {
         requireAllNonNull(target, editedTag);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!contains(target)) {
             throw new TagNotFoundException();
         }
 
@@ -112,7 +116,9 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
-        internalList.set(index, editedTag);
+        internalList.set(internalList.indexOf(target), editedTag);
+        tagSet.remove(target);
+        tagSet.add(editedTag);
     }
 
     /**
@@ -121,9 +127,10 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public void remove(Tag toRemove) throws TagNotFoundException {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!tagSet.remove(toRemove)) {
             throw new TagNotFoundException();
         }
+        internalList.remove(toRemove);
     }
 
     /**
@@ -136,14 +143,14 @@ public class UniqueTagList implements Iterable<Tag> {
         if (!this.containsAll(toRemove)) {
             throw new TagNotFoundException();
         }
-        for (Tag t: toRemove) {
-            this.remove(t);
-        }
+        internalList.removeAll(toRemove.tagSet);
+        tagSet.removeAll(toRemove.tagSet);
     }
 
     public void setTags(UniqueTagList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        tagSet = new HashSet<>(replacement.tagSet);
     }
 
     /**
@@ -152,10 +159,12 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public void setTags(List<Tag> tags) throws DuplicateTagException {
         requireAllNonNull(tags);
-        if (!tagsAreUnique(tags)) {
+        Set<Tag> replacementSet = setIfUnique(tags);
+        if (replacementSet == null) {
             throw new DuplicateTagException();
         }
         internalList.setAll(tags);
+        tagSet = replacementSet;
     }
 
     /**
@@ -192,17 +201,16 @@ public class UniqueTagList implements Iterable<Tag> {
     }
 
     /**
-     * Returns true if {@code tags} contains only unique tags.
+     * Returns the set of {@code tags}, or null if {@code tags} contains duplicate tags.
      */
-    private boolean tagsAreUnique(List<Tag> tags) {
-        for (int i = 0; i < tags.size() - 1; i++) {
-            for (int j = i + 1; j < tags.size(); j++) {
-                if (tags.get(i).equals(tags.get(j))) {
-                    return false;
-                }
+    private static Set<Tag> setIfUnique(List<Tag> tags) {
+        Set<Tag> seen = new HashSet<>(Math.max(16, (int) (tags.size() / 0.75f) + 1));
+        for (Tag t : tags) {
+            if (!seen.add(t)) {
+                return null;
             }
         }
-        return true;
+        return seen;
     }
 
     public Stream<Tag> toStream() {
@@ -0,0 +1,46 @@
+package seedu.clinkedin.storage;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.clinkedin.logic.parser.Prefix;
+import seedu.clinkedin.model.ReadOnlyAddressBook;
+import seedu.clinkedin.model.person.Person;
+import seedu.clinkedin.model.tag.TagType;
+
+/**
+ * A copy of the persons and tag types of an address book at one point in time, which can be saved on another
+ * thread while the original address book keeps changing.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final Map<Prefix, TagType> prefixMap;
+
+    /**
+     * Copies the persons and tag types of {@code addressBook}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        prefixMap = Collections.unmodifiableMap(new HashMap<>(addressBook.getPrefixMap()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public Map<Prefix, TagType> getPrefixMap() {
+        return prefixMap;
+    }
+
+    @Override
+    public int getCount() {
+        return persons.size();
+    }
+}
@@ -12,6 +12,11 @@ import seedu.clinkedin.model.ReadOnlyAddressBook;
  */
 public interface AddressBookStorage {
 
+    /**
+     * The number of older versions of the data file kept as backups, to be read if the data file cannot be.
+     */
+    int BACKUP_COUNT = 3;
+
     /**
      * Returns the file path of the data file.
      */
@@ -42,4 +47,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Makes the data file hold everything saved so far, for storages that keep the latest saves elsewhere.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void checkpoint() throws IOException {
+    }
+
 }
@@ -0,0 +1,109 @@
+package seedu.clinkedin.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.clinkedin.commons.core.LogsCenter;
+import seedu.clinkedin.commons.util.StringUtil;
+import seedu.clinkedin.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ * Saves requested while a save is in progress are coalesced: only the latest address book requested is written
+ * once the save in progress completes, and the address books requested in between are never written.
+ */
+public class AddressBookWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookWriter.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ReadOnlyAddressBook pendingAddressBook;
+    private Path pendingFilePath;
+    private Consumer<Exception> failureHandler = unused -> { };
+
+    /**
+     * Creates a writer that saves to {@code addressBookStorage}.
+     */
+    public AddressBookWriter(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    /**
+     * Sets the handler that is given the exception of every save that fails.
+     * The handler is called on the writer's thread.
+     */
+    public synchronized void setFailureHandler(Consumer<Exception> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} in the background, replacing any save that has not started yet.
+     * {@code addressBook} must not be changed afterwards.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        boolean isSaveScheduled = pendingAddressBook != null;
+        pendingAddressBook = addressBook;
+        pendingFilePath = filePath;
+        if (!isSaveScheduled) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Waits until every save requested so far has completed.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        Path filePath;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            filePath = pendingFilePath;
+            pendingAddressBook = null;
+            pendingFilePath = null;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        } catch (IOException | RuntimeException e) {
+            Consumer<Exception> handler;
+            synchronized (this) {
+                if (pendingAddressBook != null) {
+                    // a later save will overwrite whatever this one wrote
+                    logger.info("Superseded save failed: " + StringUtil.getDetails(e));
+                    return;
+                }
+                handler = failureHandler;
+            }
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            handler.accept(e);
+        }
+    }
+}
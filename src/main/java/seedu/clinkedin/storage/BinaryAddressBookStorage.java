@@ -0,0 +1,411 @@
+package seedu.clinkedin.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.clinkedin.commons.core.LogsCenter;
+import seedu.clinkedin.commons.exceptions.DataConversionException;
+import seedu.clinkedin.commons.exceptions.IllegalValueException;
+import seedu.clinkedin.commons.util.FileUtil;
+import seedu.clinkedin.logic.parser.Prefix;
+import seedu.clinkedin.model.AddressBook;
+import seedu.clinkedin.model.ReadOnlyAddressBook;
+import seedu.clinkedin.model.link.Link;
+import seedu.clinkedin.model.person.Address;
+import seedu.clinkedin.model.person.Email;
+import seedu.clinkedin.model.person.Name;
+import seedu.clinkedin.model.person.Note;
+import seedu.clinkedin.model.person.Person;
+import seedu.clinkedin.model.person.Phone;
+import seedu.clinkedin.model.person.Rating;
+import seedu.clinkedin.model.person.Status;
+import seedu.clinkedin.model.person.UniqueTagTypeMap;
+import seedu.clinkedin.model.person.exceptions.DuplicatePersonException;
+import seedu.clinkedin.model.person.exceptions.TagTypeNotFoundException;
+import seedu.clinkedin.model.tag.Tag;
+import seedu.clinkedin.model.tag.TagType;
+import seedu.clinkedin.model.tag.UniqueTagList;
+import seedu.clinkedin.model.tag.exceptions.DuplicateTagException;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * The file starts with {@link #MAGIC} and {@link #VERSION}, followed by a table of the strings that repeat across
+ * persons (prefixes, tag types, tags, statuses and ratings), the tag types, and then the persons.
+ * Strings are written as their length in bytes followed by their UTF-8 encoding, and strings in the table are
+ * referred to by their index in it.
+ * The file ends with the CRC32 checksum of everything before it, which is verified before the file is read.
+ * Each distinct table string is converted into a model object only once when the file is read.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int MAGIC = 0x434C4B42;
+    public static final int VERSION = 2;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book is incomplete or corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a binary address book file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the file cannot be read, the newest backup of it that can be read is used instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+        }
+        return FileUtil.readFromFileOrBackup(filePath, BACKUP_COUNT, BinaryAddressBookStorage::readFile);
+    }
+
+    private static Optional<ReadOnlyAddressBook> readFile(Path filePath) throws DataConversionException, IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath)) {
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the whole file is in the buffer
+            }
+        }
+        buffer.flip();
+
+        try {
+            return Optional.of(new Reader(buffer).readAddressBook());
+        } catch (IllegalValueException | IllegalArgumentException | TagTypeNotFoundException
+                | DuplicateTagException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        } catch (BufferUnderflowException e) {
+            logger.info("Incomplete data in " + filePath);
+            throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPTED));
+        } catch (DuplicatePersonException e) {
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, BACKUP_COUNT, out -> {
+            CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+            DataOutputStream dataOut = new DataOutputStream(checkedOut);
+            new Writer(dataOut).writeAddressBook(addressBook);
+            dataOut.flush();
+            new DataOutputStream(out).writeLong(checkedOut.getChecksum().getValue());
+        });
+    }
+
+    /**
+     * Writes an address book in the binary format.
+     */
+    private static class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> stringTable = new LinkedHashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            Map<Prefix, TagType> prefixMap = addressBook.getPrefixMap();
+            List<Person> persons = addressBook.getPersonList();
+            for (Map.Entry<Prefix, TagType> entry : prefixMap.entrySet()) {
+                addToTable(entry.getKey().getPrefix());
+                addToTable(entry.getValue().getTagTypeName());
+            }
+            for (Person person : persons) {
+                addToTable(person.getStatus().status);
+                addToTable(person.getRating().toString());
+                for (Map.Entry<TagType, UniqueTagList> entry : person.getTags().entrySet()) {
+                    addToTable(entry.getKey().getTagTypeName());
+                    for (Tag tag : entry.getValue()) {
+                        addToTable(tag.tagName);
+                    }
+                }
+            }
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(stringTable.size());
+            for (String string : stringTable.keySet()) {
+                writeString(string);
+            }
+            out.writeInt(prefixMap.size());
+            for (Map.Entry<Prefix, TagType> entry : prefixMap.entrySet()) {
+                writeTableIndex(entry.getKey().getPrefix());
+                writeTableIndex(entry.getValue().getTagTypeName());
+            }
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                writePerson(person);
+            }
+        }
+
+        private void writePerson(Person person) throws IOException {
+            writeString(person.getName().fullName);
+            writeString(person.getPhone().value);
+            writeString(person.getEmail().value);
+            writeString(person.getAddress().value);
+            writeTableIndex(person.getStatus().status);
+            writeString(person.getNote().value);
+            writeTableIndex(person.getRating().toString());
+            out.writeInt(person.getTags().size());
+            for (Map.Entry<TagType, UniqueTagList> entry : person.getTags().entrySet()) {
+                writeTableIndex(entry.getKey().getTagTypeName());
+                List<Tag> tags = entry.getValue().asUnmodifiableObservableList();
+                out.writeInt(tags.size());
+                for (Tag tag : tags) {
+                    writeTableIndex(tag.tagName);
+                }
+            }
+            out.writeInt(person.getLinks().size());
+            for (Link link : person.getLinks()) {
+                writeString(link.link);
+            }
+        }
+
+        private void addToTable(String string) {
+            stringTable.putIfAbsent(string, stringTable.size());
+        }
+
+        private void writeTableIndex(String string) throws IOException {
+            out.writeInt(stringTable.get(string));
+        }
+
+        private void writeString(String string) throws IOException {
+            byte[] bytes = string.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private byte[] scratch = new byte[64];
+        private String[] stringTable;
+        // model objects made from the table strings, created when first needed
+        private Status[] statuses;
+        private Rating[] ratings;
+        private Tag[] tags;
+        private TagType[] tagTypes;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        AddressBook readAddressBook() throws IllegalValueException {
+            if (buffer.remaining() < 2 * Integer.BYTES + Long.BYTES || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            verifyChecksum();
+
+            stringTable = new String[readCount()];
+            for (int i = 0; i < stringTable.length; i++) {
+                stringTable[i] = readString();
+            }
+            statuses = new Status[stringTable.length];
+            ratings = new Rating[stringTable.length];
+            tags = new Tag[stringTable.length];
+            tagTypes = new TagType[stringTable.length];
+
+            AddressBook addressBook = new AddressBook();
+            int prefixCount = readCount();
+            Map<Prefix, TagType> prefixMap = new HashMap<>();
+            for (int i = 0; i < prefixCount; i++) {
+                Prefix prefix = new Prefix(readTableString());
+                prefixMap.put(prefix, new TagType(readTableString(), prefix));
+            }
+            addressBook.setPrefixMap(prefixMap);
+
+            int personCount = readCount();
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson());
+            }
+            addressBook.setPersons(persons);
+            return addressBook;
+        }
+
+        /**
+         * Checks the checksum at the end of the buffer, and leaves it out of the data to be read.
+         */
+        private void verifyChecksum() throws IllegalValueException {
+            int checksumPosition = buffer.limit() - Long.BYTES;
+            long expectedChecksum = buffer.getLong(checksumPosition);
+            CRC32 checksum = new CRC32();
+            ByteBuffer data = buffer.duplicate();
+            data.position(0).limit(checksumPosition);
+            checksum.update(data);
+            if (checksum.getValue() != expectedChecksum) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            buffer.limit(checksumPosition);
+        }
+
+        private Person readPerson() {
+            Name name = new Name(readString());
+            Phone phone = new Phone(readString());
+            Email email = new Email(readString());
+            Address address = new Address(readString());
+            Status status = readStatus();
+            Note note = new Note(readString());
+            Rating rating = readRating();
+
+            Map<TagType, UniqueTagList> tagTypeMap = new HashMap<>();
+            int tagTypeCount = readCount();
+            for (int i = 0; i < tagTypeCount; i++) {
+                TagType tagType = readTagType();
+                int tagCount = readCount();
+                List<Tag> tagList = new ArrayList<>(tagCount);
+                for (int j = 0; j < tagCount; j++) {
+                    tagList.add(readTag());
+                }
+                UniqueTagList uniqueTagList = new UniqueTagList();
+                uniqueTagList.setTags(tagList);
+                tagTypeMap.put(tagType, uniqueTagList);
+            }
+            UniqueTagTypeMap modelTags = new UniqueTagTypeMap();
+            modelTags.setTagTypeMap(tagTypeMap);
+
+            int linkCount = readCount();
+            Set<Link> links = new HashSet<>();
+            for (int i = 0; i < linkCount; i++) {
+                links.add(new Link(readString()));
+            }
+            return new Person(name, phone, email, address, modelTags, status, note, rating, links);
+        }
+
+        private Status readStatus() {
+            int index = readTableIndex();
+            if (statuses[index] == null) {
+                statuses[index] = Status.of(stringTable[index]);
+            }
+            return statuses[index];
+        }
+
+        private Rating readRating() {
+            int index = readTableIndex();
+            if (ratings[index] == null) {
+                ratings[index] = Rating.of(stringTable[index]);
+            }
+            return ratings[index];
+        }
+
+        private Tag readTag() {
+            int index = readTableIndex();
+            if (tags[index] == null) {
+                tags[index] = Tag.of(stringTable[index]);
+            }
+            return tags[index];
+        }
+
+        private TagType readTagType() {
+            int index = readTableIndex();
+            if (tagTypes[index] == null) {
+                String tagTypeName = stringTable[index];
+                tagTypes[index] = TagType.of(tagTypeName);
+            }
+            return tagTypes[index];
+        }
+
+        private String readTableString() {
+            return stringTable[readTableIndex()];
+        }
+
+        private int readTableIndex() {
+            int index = buffer.getInt();
+            if (index < 0 || index >= stringTable.length) {
+                throw new IllegalArgumentException(MESSAGE_CORRUPTED);
+            }
+            return index;
+        }
+
+        /**
+         * Reads a count of items that follow, which cannot be more than the bytes left in the buffer.
+         */
+        private int readCount() {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            return count;
+        }
+
+        private String readString() {
+            int length = readCount();
+            if (length > scratch.length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(scratch, 0, length);
+            return new String(scratch, 0, length, UTF_8);
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package seedu.clinkedin.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.clinkedin.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.clinkedin.commons.core.LogsCenter;
+import seedu.clinkedin.commons.exceptions.DataConversionException;
+import seedu.clinkedin.commons.exceptions.IllegalValueException;
+import seedu.clinkedin.commons.util.FileUtil;
+import seedu.clinkedin.commons.util.JsonUtil;
+import seedu.clinkedin.model.AddressBook;
+import seedu.clinkedin.model.ReadOnlyAddressBook;
+import seedu.clinkedin.model.person.Person;
+import seedu.clinkedin.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file, followed by a journal of the changes made
+ * since the snapshot was written.
+ * Saving an address book only appends the persons added, edited or deleted since the last save to the journal,
+ * so it costs time proportional to the change rather than to the address book.
+ * After {@code checkpointInterval} journal entries, when the tag types change, or on {@link #checkpoint()}, the
+ * whole address book is written to the snapshot and the journal is restarted.
+ * The snapshot has the same format as the file of {@link JsonAddressBookStorage}, and the journal is kept next to
+ * it with the {@link #JOURNAL_FILE_EXTENSION} extension. Until a checkpoint, the snapshot alone is out of date.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final String UNMATCHED_JOURNAL_FILE_EXTENSION = ".unmatched";
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 100;
+
+    private static final int CHECKSUM_BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int checkpointInterval;
+
+    // the address book as last read or saved, which the next save is compared with
+    private Path lastFilePath;
+    private AddressBookSnapshot lastAddressBook;
+    // the number of entries in the journal of lastFilePath, or -1 if it has to be restarted by a checkpoint
+    private int journalEntryCount = -1;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} that checkpoints after {@code checkpointInterval} journal entries.
+     */
+    public JournalAddressBookStorage(Path filePath, int checkpointInterval) {
+        requireNonNull(filePath);
+        checkArgument(checkpointInterval > 0, "Checkpoint interval must be positive");
+        this.filePath = filePath;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept with the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal onto it.
+     * A journal written for another snapshot is ignored, as is an entry cut short at the end of the journal.
+     * If the snapshot cannot be read, the newest backup of it that can be read is used instead.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        lastFilePath = null;
+        Optional<AddressBook> addressBook = FileUtil.readFromFileOrBackup(filePath, BACKUP_COUNT,
+                snapshotFilePath -> readSnapshotAndJournal(filePath, snapshotFilePath));
+        if (!addressBook.isPresent()) {
+            return Optional.empty();
+        }
+
+        lastFilePath = filePath;
+        lastAddressBook = new AddressBookSnapshot(addressBook.get());
+        return Optional.of(addressBook.get());
+    }
+
+    /**
+     * Reads the snapshot at {@code snapshotFilePath}, which is either {@code filePath} or one of its backups,
+     * and replays the journal of {@code filePath} onto it if the journal was written for that snapshot.
+     */
+    private Optional<AddressBook> readSnapshotAndJournal(Path filePath, Path snapshotFilePath)
+            throws DataConversionException, IOException {
+        Optional<AddressBook> snapshot = JsonUtil.readJsonFile(snapshotFilePath, JsonSerializableAddressBook::read);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = snapshot.get();
+        try {
+            List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+            int entryCount = replayJournal(getJournalFilePath(filePath), checksumOf(snapshotFilePath), persons);
+            if (!persons.equals(addressBook.getPersonList())) {
+                addressBook.setPersons(persons);
+            }
+            // a snapshot read from a backup has to be written again before the journal can continue
+            journalEntryCount = snapshotFilePath.equals(filePath) ? entryCount : -1;
+        } catch (IllegalValueException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        // journal entries only record persons, so a change to the tag types needs a checkpoint
+        boolean isCheckpointNeeded = !filePath.equals(lastFilePath) || journalEntryCount < 0
+                || journalEntryCount >= checkpointInterval
+                || !snapshot.getPrefixMap().equals(lastAddressBook.getPrefixMap());
+
+        int entryCount = journalEntryCount;
+        journalEntryCount = -1;
+        if (isCheckpointNeeded) {
+            writeCheckpoint(snapshot, filePath);
+            entryCount = 0;
+        } else if (appendChange(snapshot.getPersonList(), filePath)) {
+            entryCount++;
+        }
+        journalEntryCount = entryCount;
+        lastFilePath = filePath;
+        lastAddressBook = snapshot;
+    }
+
+    /**
+     * Writes the address book last read or saved to the snapshot if the journal has any entries, so that the
+     * snapshot alone holds everything saved.
+     */
+    @Override
+    public synchronized void checkpoint() throws IOException {
+        if (lastFilePath == null || journalEntryCount <= 0) {
+            return;
+        }
+        journalEntryCount = -1;
+        writeCheckpoint(lastAddressBook, lastFilePath);
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Writes {@code addressBook} to the snapshot at {@code filePath} and starts an empty journal for it.
+     */
+    private void writeCheckpoint(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        JsonUtil.saveJsonFile(filePath, BACKUP_COUNT,
+                generator -> JsonSerializableAddressBook.write(addressBook, generator));
+        writeAndForce(getJournalFilePath(filePath), checksumOf(filePath) + System.lineSeparator(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Appends the change from the last saved persons to {@code persons} to the journal of {@code filePath}.
+     * Returns false if there is no change.
+     */
+    private boolean appendChange(List<Person> persons, Path filePath) throws IOException {
+        List<Person> lastPersons = lastAddressBook.getPersonList();
+        int from = 0;
+        int maxCommon = Math.min(lastPersons.size(), persons.size());
+        while (from < maxCommon && lastPersons.get(from) == persons.get(from)) {
+            from++;
+        }
+        int fromEnd = 0;
+        while (fromEnd < maxCommon - from
+                && lastPersons.get(lastPersons.size() - 1 - fromEnd) == persons.get(persons.size() - 1 - fromEnd)) {
+            fromEnd++;
+        }
+        int removed = lastPersons.size() - fromEnd - from;
+        List<JsonAdaptedPerson> added = new ArrayList<>();
+        for (Person person : persons.subList(from, persons.size() - fromEnd)) {
+            added.add(new JsonAdaptedPerson(person));
+        }
+        if (removed == 0 && added.isEmpty()) {
+            return false;
+        }
+
+        String entry = JsonUtil.toJsonLine(new JsonAdaptedSplice(from, removed, added)) + System.lineSeparator();
+        writeAndForce(getJournalFilePath(filePath), entry, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return true;
+    }
+
+    /**
+     * Applies the entries in the journal at {@code journalFilePath} to {@code persons} if it was written for the
+     * snapshot with {@code snapshotChecksum}, and returns the number of entries applied, or -1 if there is no
+     * journal that can be appended to.
+     * A journal with entries that was written for another snapshot, such as one edited by hand, is moved aside
+     * with the {@link #UNMATCHED_JOURNAL_FILE_EXTENSION} extension rather than being overwritten by the next save.
+     */
+    private static int replayJournal(Path journalFilePath, long snapshotChecksum, List<Person> persons)
+            throws IOException, DataConversionException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return -1;
+        }
+        List<String> lines = Files.readAllLines(journalFilePath, UTF_8);
+        if (lines.isEmpty() || !lines.get(0).trim().equals(Long.toString(snapshotChecksum))) {
+            if (lines.size() > 1) {
+                Path unmatchedFilePath = journalFilePath.resolveSibling(
+                        journalFilePath.getFileName() + UNMATCHED_JOURNAL_FILE_EXTENSION);
+                Files.move(journalFilePath, unmatchedFilePath, StandardCopyOption.REPLACE_EXISTING);
+                logger.warning("The data file was changed after its last " + (lines.size() - 1)
+                        + " saved changes were journaled, so they are not loaded. They are kept in "
+                        + unmatchedFilePath);
+            } else {
+                logger.info("Ignoring empty journal " + journalFilePath + " written for another snapshot");
+            }
+            return -1;
+        }
+
+        int entryCount = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedSplice splice;
+            try {
+                splice = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedSplice.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    return -1;
+                }
+                throw new DataConversionException(e);
+            }
+            splice.applyTo(persons);
+            entryCount++;
+        }
+        return entryCount;
+    }
+
+    /**
+     * Writes {@code content} to {@code filePath}, opened with {@code options}, and forces it to the disk, so that a
+     * journaled save is as durable as a checkpoint.
+     */
+    private static void writeAndForce(Path filePath, String content, OpenOption... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, options)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the CRC32 of the file at {@code filePath}, which is read a buffer at a time rather than all at once.
+     */
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(CHECKSUM_BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+        }
+        return checksum.getValue();
+    }
+}
@@ -103,7 +103,7 @@ class JsonAdaptedPerson {
         for (List<JsonAdaptedTag> tags : tags) {
             String tagType = tags.get(0).toModelType().toString();
             tagType = tagType.substring(1, tagType.length() - 1);
-            TagType t = new TagType(tagType, UniqueTagTypeMap.getPrefixFromTagType(tagType));
+            TagType t = TagType.of(tagType);
             List<Tag> tagList = new ArrayList<>();
             for (JsonAdaptedTag jsonAdaptedTag : tags.subList(1, tags.size())) {
                 Tag toModelType = jsonAdaptedTag.toModelType();
@@ -160,7 +160,7 @@ class JsonAdaptedPerson {
         if (!Status.isValidStatus(status)) {
             throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
         }
-        final Status modelStatus = new Status(status);
+        final Status modelStatus = Status.of(status);
 
         if (note == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Note.class.getSimpleName()));
@@ -170,7 +170,7 @@ class JsonAdaptedPerson {
         if (rating == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Rating.class.getSimpleName()));
         }
-        final Rating modelRating = new Rating(rating);
+        final Rating modelRating = Rating.of(rating);
 
         final Set<Link> modelLinks = new HashSet<>(personLinks);
 
@@ -0,0 +1,56 @@
+package seedu.clinkedin.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.clinkedin.commons.exceptions.IllegalValueException;
+import seedu.clinkedin.model.person.Person;
+
+/**
+ * Jackson-friendly record of a change to a person list: {@code removed} persons starting at index {@code from}
+ * are replaced by {@code persons}.
+ * Adding, editing and deleting a person are all recorded this way.
+ */
+class JsonAdaptedSplice {
+
+    public static final String INVALID_RANGE_MESSAGE = "Journal entry does not fit the person list!";
+
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSplice} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSplice(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.from = from;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Applies this change to {@code personList}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code personList}, or any of its persons has
+     *     invalid data.
+     */
+    public void applyTo(List<Person> personList) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > personList.size()) {
+            throw new IllegalValueException(INVALID_RANGE_MESSAGE);
+        }
+        List<Person> added = new ArrayList<>();
+        for (JsonAdaptedPerson person : persons) {
+            added.add(person.toModelType());
+        }
+        List<Person> replaced = personList.subList(from, from + removed);
+        replaced.clear();
+        replaced.addAll(added);
+    }
+}
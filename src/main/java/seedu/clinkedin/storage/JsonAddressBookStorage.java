@@ -5,11 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.clinkedin.commons.core.LogsCenter;
 import seedu.clinkedin.commons.exceptions.DataConversionException;
-import seedu.clinkedin.commons.exceptions.IllegalValueException;
 import seedu.clinkedin.commons.util.FileUtil;
 import seedu.clinkedin.commons.util.JsonUtil;
 import seedu.clinkedin.model.ReadOnlyAddressBook;
@@ -19,8 +16,6 @@ import seedu.clinkedin.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
-
     private Path filePath;
 
     public JsonAddressBookStorage(Path filePath) {
@@ -38,6 +33,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the file cannot be read, the newest backup of it that can be read is used instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,17 +41,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+            return FileUtil.readFromFileOrBackup(filePath, BACKUP_COUNT,
+                    file -> JsonUtil.<ReadOnlyAddressBook>readJsonFile(file, JsonSerializableAddressBook::read));
+        } catch (IOException e) {
+            throw new DataConversionException(e);
         }
     }
 
@@ -73,8 +63,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(filePath, BACKUP_COUNT,
+                generator -> JsonSerializableAddressBook.write(addressBook, generator));
     }
 
 }
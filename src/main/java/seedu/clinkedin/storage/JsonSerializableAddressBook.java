@@ -1,5 +1,6 @@
 package seedu.clinkedin.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -9,6 +10,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
 
 import seedu.clinkedin.commons.exceptions.IllegalValueException;
 import seedu.clinkedin.logic.parser.Prefix;
@@ -24,6 +29,10 @@ import seedu.clinkedin.model.tag.TagType;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "File does not contain an address book.";
+
+    private static final String PREFIX_MAP_FIELD = "prefixMap";
+    private static final String PERSONS_FIELD = "persons";
 
     private final List<String> prefixMap;
 
@@ -45,13 +54,7 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        Map<Prefix, TagType> sourcePrefixMap = source.getPrefixMap();
-        List<String> prefixMapToList = new ArrayList<>();
-        for (Prefix prefix: sourcePrefixMap.keySet()) {
-            prefixMapToList.add(prefix.getPrefix());
-            prefixMapToList.add(sourcePrefixMap.get(prefix).getTagTypeName());
-        }
-        prefixMap = prefixMapToList;
+        prefixMap = toPrefixList(source.getPrefixMap());
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
     }
 
@@ -62,19 +65,95 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        Map<Prefix, TagType> map = new HashMap<>();
-        for (int i = 0; i < prefixMap.size(); i = i + 2) {
-            map.put(new Prefix(prefixMap.get(i)), new TagType(prefixMap.get(i + 1), new Prefix(prefixMap.get(i))));
-        }
-        addressBook.setPrefixMap(map);
+        addressBook.setPrefixMap(toModelPrefixMap(prefixMap));
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            addPerson(addressBook, jsonAdaptedPerson);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, converting one person at a time.
+     */
+    public static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(PREFIX_MAP_FIELD);
+        generator.writeObject(toPrefixList(source.getPrefixMap()));
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser}, converting one person at a time
+     * into the model's {@code Person}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_ADDRESS_BOOK);
+        }
+        AddressBook addressBook = new AddressBook();
+        boolean isPrefixMapRead = false;
+        // persons can only be converted once the tag types are known
+        List<JsonAdaptedPerson> personsBeforePrefixMap = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (PREFIX_MAP_FIELD.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                addressBook.setPrefixMap(toModelPrefixMap(parser.readValueAs(new TypeReference<List<String>>() {})));
+                isPrefixMapRead = true;
+            } else if (PERSONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedPerson jsonAdaptedPerson = parser.readValueAs(JsonAdaptedPerson.class);
+                    if (isPrefixMapRead) {
+                        addPerson(addressBook, jsonAdaptedPerson);
+                    } else {
+                        personsBeforePrefixMap.add(jsonAdaptedPerson);
+                    }
+                }
+            } else {
+                parser.skipChildren();
             }
-            addressBook.addPerson(person);
+        }
+
+        if (!isPrefixMapRead) {
+            addressBook.setPrefixMap(new HashMap<>());
+        }
+        for (JsonAdaptedPerson jsonAdaptedPerson : personsBeforePrefixMap) {
+            addPerson(addressBook, jsonAdaptedPerson);
         }
         return addressBook;
     }
 
+    private static void addPerson(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    private static List<String> toPrefixList(Map<Prefix, TagType> prefixMap) {
+        List<String> prefixList = new ArrayList<>();
+        for (Prefix prefix: prefixMap.keySet()) {
+            prefixList.add(prefix.getPrefix());
+            prefixList.add(prefixMap.get(prefix).getTagTypeName());
+        }
+        return prefixList;
+    }
+
+    private static Map<Prefix, TagType> toModelPrefixMap(List<String> prefixList) {
+        Map<Prefix, TagType> map = new HashMap<>();
+        for (int i = 0; i < prefixList.size(); i = i + 2) {
+            map.put(new Prefix(prefixList.get(i)), new TagType(prefixList.get(i + 1), new Prefix(prefixList.get(i))));
+        }
+        return map;
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.clinkedin.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.clinkedin.commons.exceptions.DataConversionException;
 import seedu.clinkedin.model.ReadOnlyAddressBook;
@@ -29,4 +30,22 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Waits until every address book save requested so far has completed.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Waits until every address book save requested so far has completed, then makes the data file hold all of
+     * them. To be called when the app stops.
+     */
+    void closeAddressBook() throws IOException;
+
+    /**
+     * Sets the handler that is given the exception of every address book save that fails after
+     * {@code saveAddressBook} has returned.
+     * The handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<Exception> handler);
+
 }
@@ -3,6 +3,7 @@ package seedu.clinkedin.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.clinkedin.commons.core.LogsCenter;
@@ -19,15 +20,28 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AddressBookWriter addressBookWriter;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Address books are saved before the save methods return.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Address books are saved in the background by {@code addressBookWriter}, which should write to
+     * {@code addressBookStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            AddressBookWriter addressBookWriter) {
+        this(addressBookStorage, userPrefsStorage);
+        this.addressBookWriter = addressBookWriter;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -61,6 +75,7 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
+        flushAddressBook();
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -72,7 +87,31 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (addressBookWriter == null) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        addressBookWriter.save(new AddressBookSnapshot(addressBook), filePath);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (addressBookWriter != null) {
+            addressBookWriter.flush();
+        }
+    }
+
+    @Override
+    public void closeAddressBook() throws IOException {
+        flushAddressBook();
+        addressBookStorage.checkpoint();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<Exception> handler) {
+        if (addressBookWriter != null) {
+            addressBookWriter.setFailureHandler(handler);
+        }
     }
 
 }
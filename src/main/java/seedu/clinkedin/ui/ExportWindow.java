@@ -3,15 +3,16 @@ package seedu.clinkedin.ui;
 import java.io.File;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
 import javafx.stage.DirectoryChooser;
 import javafx.stage.Stage;
 import seedu.clinkedin.commons.core.LogsCenter;
-import seedu.clinkedin.logic.commands.exceptions.CommandException;
 import seedu.clinkedin.logic.parser.exceptions.ParseException;
 
 /**
@@ -45,6 +46,9 @@ public class ExportWindow extends UiPart<Stage> {
     @FXML
     private Button exportButton;
 
+    @FXML
+    private ProgressBar progressBar;
+
 
     /**
      * Creates a new ExportWindow.
@@ -112,6 +116,7 @@ public class ExportWindow extends UiPart<Stage> {
 
     /**
      * Exports addressbook to specified location.
+     * The file is written in the background, with the progress shown in the window.
      */
     @FXML
     public void handleOnExport() {
@@ -125,17 +130,41 @@ public class ExportWindow extends UiPart<Stage> {
             if (userEnteredFileName.getText().trim().contains("/")) {
                 throw new ParseException("File name cannot contain '/'. Try again!");
             }
-            mainWindow.executeFromWindow("export path/" + filePath);
-        } catch (CommandException | ParseException e) {
-            Alert a = new Alert(Alert.AlertType.ERROR);
-            a.setContentText(e.getMessage());
-            chosenLocation.setText("");
-            userEnteredFileName.clear();
-            a.show();
+            mainWindow.executeInBackgroundFromWindow("export path/" + filePath, this::showProgress)
+                    .whenComplete((unused, error) -> handleExportCompleted(error));
+        } catch (ParseException e) {
+            showError(e.getMessage());
+            return;
+        }
+        exportButton.setDisable(true);
+        selectButton.setDisable(true);
+        progressBar.setProgress(0);
+        progressBar.setVisible(true);
+    }
+
+    private void showProgress(long workDone, long totalWork) {
+        double progress = totalWork > 0 ? (double) workDone / totalWork : ProgressBar.INDETERMINATE_PROGRESS;
+        Platform.runLater(() -> progressBar.setProgress(progress));
+    }
+
+    private void handleExportCompleted(Throwable error) {
+        exportButton.setDisable(false);
+        selectButton.setDisable(false);
+        progressBar.setVisible(false);
+        if (error != null) {
+            showError(error.getMessage());
             return;
         }
         chosenLocation.setText("");
         userEnteredFileName.clear();
         this.hide();
     }
+
+    private void showError(String message) {
+        Alert a = new Alert(Alert.AlertType.ERROR);
+        a.setContentText(message);
+        chosenLocation.setText("");
+        userEnteredFileName.clear();
+        a.show();
+    }
 }
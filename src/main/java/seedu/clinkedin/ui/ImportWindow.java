@@ -3,14 +3,15 @@ package seedu.clinkedin.ui;
 import java.io.File;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import seedu.clinkedin.commons.core.LogsCenter;
-import seedu.clinkedin.logic.commands.exceptions.CommandException;
 import seedu.clinkedin.logic.parser.exceptions.ParseException;
 
 /**
@@ -36,6 +37,9 @@ public class ImportWindow extends UiPart<Stage> {
     @FXML
     private Button importButton;
 
+    @FXML
+    private ProgressBar progressBar;
+
 
     /**
      * Creates a new ImportWindow.
@@ -101,20 +105,45 @@ public class ImportWindow extends UiPart<Stage> {
 
     /**
      * Imports the addressbook from the specified file.
+     * The file is read in the background, with the progress shown in the window.
      */
     @FXML
     public void handleOnImport() {
+        String filePath = chosenFile.getText();
         try {
-            String filePath = chosenFile.getText();
-            mainWindow.executeFromWindow("import path/" + filePath);
-        } catch (CommandException | ParseException e) {
-            Alert a = new Alert(Alert.AlertType.ERROR);
-            a.setContentText(e.getMessage());
-            chosenFile.setText("");
-            a.show();
+            mainWindow.executeInBackgroundFromWindow("import path/" + filePath, this::showProgress)
+                    .whenComplete((unused, error) -> handleImportCompleted(error));
+        } catch (ParseException e) {
+            showError(e.getMessage());
+            return;
+        }
+        importButton.setDisable(true);
+        selectButton.setDisable(true);
+        progressBar.setProgress(0);
+        progressBar.setVisible(true);
+    }
+
+    private void showProgress(long workDone, long totalWork) {
+        double progress = totalWork > 0 ? (double) workDone / totalWork : ProgressBar.INDETERMINATE_PROGRESS;
+        Platform.runLater(() -> progressBar.setProgress(progress));
+    }
+
+    private void handleImportCompleted(Throwable error) {
+        importButton.setDisable(false);
+        selectButton.setDisable(false);
+        progressBar.setVisible(false);
+        if (error != null) {
+            showError(error.getMessage());
             return;
         }
         chosenFile.setText("");
         this.hide();
     }
+
+    private void showError(String message) {
+        Alert a = new Alert(Alert.AlertType.ERROR);
+        a.setContentText(message);
+        chosenFile.setText("");
+        a.show();
+    }
 }
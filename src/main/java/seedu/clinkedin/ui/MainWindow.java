@@ -1,7 +1,9 @@
 package seedu.clinkedin.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,6 +16,7 @@ import seedu.clinkedin.commons.core.GuiSettings;
 import seedu.clinkedin.commons.core.LogsCenter;
 import seedu.clinkedin.logic.Logic;
 import seedu.clinkedin.logic.commands.CommandResult;
+import seedu.clinkedin.logic.commands.ProgressListener;
 import seedu.clinkedin.logic.commands.exceptions.CommandException;
 import seedu.clinkedin.logic.parser.exceptions.ParseException;
 
@@ -127,6 +130,7 @@ public class MainWindow extends UiPart<Stage> {
         importWindow = new ImportWindow(this);
 
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -212,24 +216,7 @@ public class MainWindow extends UiPart<Stage> {
             ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            personCountDisplay.setPersonCountMessage(logic.getFilteredPersonList(), logic.getAddressBook());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
-
-            if (commandResult.isExit()) {
-                handleExit();
-            }
-            if (commandResult.isExport()) {
-                handleExport();
-            }
-            if (commandResult.isImport()) {
-                handleImport();
-            }
-
+            showResult(commandResult);
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("Invalid command: " + commandText);
@@ -244,7 +231,55 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         return executeCommand(commandText, true);
     }
+    /**
+     * Shows the result of a command and opens the windows it asks for.
+     */
+    private void showResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        personCountDisplay.setPersonCountMessage(logic.getFilteredPersonList(), logic.getAddressBook());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+        if (commandResult.isExport()) {
+            handleExport();
+        }
+        if (commandResult.isImport()) {
+            handleImport();
+        }
+    }
+
     public CommandResult executeFromWindow(String command) throws CommandException, ParseException {
         return this.executeCommand(command, false);
     }
+
+    /**
+     * Executes the command from a window like {@link #executeFromWindow(String)}, but prepares and finishes it in
+     * the background with its progress reported to {@code progressListener}.
+     * The returned future is completed on the JavaFX application thread.
+     */
+    public CompletableFuture<CommandResult> executeInBackgroundFromWindow(String commandText,
+            ProgressListener progressListener) throws ParseException {
+        CompletableFuture<CommandResult> result;
+        try {
+            result = logic.executeInBackground(commandText, progressListener, Platform::runLater);
+        } catch (ParseException e) {
+            logger.info("Invalid command: " + commandText);
+            throw e;
+        }
+        result.whenComplete((commandResult, error) -> {
+            if (error == null) {
+                showResult(commandResult);
+            } else {
+                logger.info("Invalid command: " + commandText);
+                personCountDisplay.setPersonCountMessage(logic.getFilteredPersonList(), logic.getAddressBook());
+            }
+        });
+        return result;
+    }
 }
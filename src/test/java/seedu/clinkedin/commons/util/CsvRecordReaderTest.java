@@ -0,0 +1,57 @@
+package seedu.clinkedin.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.clinkedin.testutil.Assert.assertThrows;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.clinkedin.commons.exceptions.EmptyFileException;
+
+public class CsvRecordReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_missingFile_throwsFileNotFoundException() {
+        assertThrows(FileNotFoundException.class, () ->
+                CsvRecordReader.open(testFolder.resolve("missing.csv").toString()));
+    }
+
+    @Test
+    public void open_emptyFile_throwsEmptyFileException() throws Exception {
+        Path file = testFolder.resolve("empty.csv");
+        Files.createFile(file);
+        assertThrows(EmptyFileException.class, () -> CsvRecordReader.open(file.toString()));
+    }
+
+    @Test
+    public void readRecord_recordsSeparatedByBlankRows_readOneAtATime() throws Exception {
+        Path file = testFolder.resolve("records.csv");
+        Files.write(file, "\uFEFF\"Name\",\"Alice\"\n\"Phone\",\"123\"\n\n\n\"Name\",\"Bob\"\n".getBytes(UTF_8));
+
+        try (CsvRecordReader reader = CsvRecordReader.open(file.toString())) {
+            ArrayList<String[]> first = reader.readRecord();
+            assertEquals(2, first.size());
+            assertArrayEquals(new String[] {"Name", "Alice"}, first.get(0));
+            assertArrayEquals(new String[] {"Phone", "123"}, first.get(1));
+
+            // the last record does not need to be followed by a blank row
+            ArrayList<String[]> second = reader.readRecord();
+            assertEquals(1, second.size());
+            assertArrayEquals(new String[] {"Name", "Bob"}, second.get(0));
+
+            assertNull(reader.readRecord());
+            assertEquals(reader.getFileSize(), reader.getBytesRead());
+        }
+    }
+}
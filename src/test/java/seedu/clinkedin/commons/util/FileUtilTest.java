@@ -1,13 +1,26 @@
 package seedu.clinkedin.commons.util;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.clinkedin.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.clinkedin.commons.exceptions.DataConversionException;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,64 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_backupsRotated() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        for (String contents : new String[] {"first", "second", "third", "fourth"}) {
+            writeAtomically(file, contents);
+        }
+
+        assertEquals("fourth", read(file));
+        assertEquals("third", read(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("second", read(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 3)));
+        assertEquals(3, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        writeAtomically(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, 2, out -> {
+            out.write("partial".getBytes(UTF_8));
+            throw new IOException("Disk full");
+        }));
+        assertEquals("original", read(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void readFromFileOrBackup() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.FileContentReader<String> reader = path -> {
+            String contents = read(path);
+            if (contents.startsWith("bad")) {
+                throw new DataConversionException(new IOException(contents));
+            }
+            return Optional.of(contents);
+        };
+
+        // no file -> empty
+        assertEquals(Optional.empty(), FileUtil.readFromFileOrBackup(file, 2, reader));
+
+        writeAtomically(file, "good");
+        writeAtomically(file, "bad");
+        assertEquals(Optional.of("good"), FileUtil.readFromFileOrBackup(file, 2, reader));
+
+        // nothing readable -> the problem with the file itself is reported
+        writeAtomically(file, "bad again");
+        writeAtomically(file, "bad file");
+        assertThrows(DataConversionException.class, new IOException("bad file").toString(), () ->
+                FileUtil.readFromFileOrBackup(file, 2, reader));
+    }
+
+    private static void writeAtomically(Path file, String contents) throws IOException {
+        FileUtil.writeToFileAtomically(file, 2, out -> out.write(contents.getBytes(UTF_8)));
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), UTF_8);
+    }
 }
@@ -0,0 +1,43 @@
+package seedu.clinkedin.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.clinkedin.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    @Test
+    public void intern_equalKeys_returnsSameValue() {
+        InternPool<String, StringBuilder> pool = new InternPool<>(StringBuilder::new);
+        StringBuilder value = pool.intern("a");
+        assertSame(value, pool.intern(new String("a")));
+        assertNotSame(value, pool.intern("b"));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        InternPool<String, String> pool = new InternPool<>(key -> {
+            throw new IllegalArgumentException(key);
+        });
+        assertThrows(IllegalArgumentException.class, () -> pool.intern("a"));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void intern_poolFull_valueNotPooled() {
+        InternPool<String, StringBuilder> pool = new InternPool<>(StringBuilder::new, 1);
+        StringBuilder pooled = pool.intern("a");
+        assertNotSame(pool.intern("b"), pool.intern("b"));
+        assertSame(pooled, pool.intern("a"));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InternPool<>(String::valueOf).intern(null));
+    }
+}
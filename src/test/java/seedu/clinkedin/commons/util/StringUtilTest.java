@@ -1,15 +1,22 @@
 package seedu.clinkedin.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.clinkedin.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 public class StringUtilTest {
 
+    private static final List<String> VALIDATION_SAMPLES = Arrays.asList("", " ", "a", "Z", "0", "12", "123",
+            "98765432", "abc", "a b", "a  b ", " a", "a_b", "a-b", "12 3", "\u00e9t\u00e9", "\u0661\u0662\u0663",
+            "a\tb", "abc\n", "@", "[", "`", "{", "/", ":");
+
     //---------------- Tests for isNonZeroUnsignedInteger --------------------------------------
 
     @Test
@@ -123,6 +130,69 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsPartialWordIgnoreCase --------------------------------------
+
+    @Test
+    public void containsPartialWordIgnoreCase_wordList_sameResultAsSentence() {
+        List<String> words = Arrays.asList("aaa", "bbb", "ccc@1");
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.containsPartialWordIgnoreCase(words, "  "));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.containsPartialWordIgnoreCase(words, "a b"));
+
+        for (String word : Arrays.asList("bB", "  CCC@1 ", "aaaa", "d")) {
+            assertEquals(StringUtil.containsPartialWordIgnoreCase("AAA bBb ccc@1", word),
+                    StringUtil.containsPartialWordIgnoreCase(words, word));
+        }
+    }
+
+    //---------------- Tests for containsIgnoreCase --------------------------------------
+
+    @Test
+    public void containsIgnoreCase_sameResultAsContainsSequenceIgnoreCase() {
+        for (String sequence : Arrays.asList("abc", "c d", "DEF", "ab", "f", "abcd ef", "x")) {
+            assertEquals(StringUtil.containsSequenceIgnoreCase("ABc dEf", sequence),
+                    StringUtil.containsIgnoreCase("ABc dEf", sequence.toLowerCase()), sequence);
+        }
+        assertTrue(StringUtil.containsIgnoreCase("", ""));
+        assertFalse(StringUtil.containsIgnoreCase("", "a"));
+    }
+
+    @Test
+    public void countIgnoreCase_validInputs_correctResult() {
+        assertEquals(0, StringUtil.countIgnoreCase("", "a"));
+        assertEquals(3, StringUtil.countIgnoreCase("Java jAVA jav java", "java"));
+        assertEquals(2, StringUtil.countIgnoreCase("aaa", "aa")); // overlapping occurrences
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.countIgnoreCase("abc", ""));
+    }
+
+    //---------------- Tests for isAlphanumeric, isAlphanumericWords and isDigits ------------------
+
+    @Test
+    public void isAlphanumeric_sameAsRegex() {
+        for (String s : VALIDATION_SAMPLES) {
+            assertEquals(s.matches("\\p{Alnum}+"), StringUtil.isAlphanumeric(s), s);
+        }
+    }
+
+    @Test
+    public void isAlphanumericWords_sameAsRegex() {
+        for (String s : VALIDATION_SAMPLES) {
+            assertEquals(s.matches("[\\p{Alnum}][\\p{Alnum} ]*"), StringUtil.isAlphanumericWords(s), s);
+        }
+    }
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        for (String s : VALIDATION_SAMPLES) {
+            assertEquals(s.matches("\\d{3,}"), StringUtil.isDigits(s, 3), s);
+            assertEquals(s.matches("\\d+"), StringUtil.isDigits(s, 0), s);
+        }
+    }
+
+    @Test
+    public void isAlphanumericWords_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isAlphanumericWords(null));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
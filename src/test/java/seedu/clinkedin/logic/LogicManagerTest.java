@@ -1,6 +1,7 @@
 package seedu.clinkedin.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.clinkedin.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.clinkedin.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.clinkedin.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -10,19 +11,27 @@ import static seedu.clinkedin.logic.commands.CommandTestUtil.NOTE_DESC_AMY;
 import static seedu.clinkedin.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.clinkedin.logic.commands.CommandTestUtil.RATING_DESC_AMY;
 import static seedu.clinkedin.logic.commands.CommandTestUtil.STATUS_DESC_AMY;
+import static seedu.clinkedin.logic.parser.CliSyntax.PREFIX_PATH;
 import static seedu.clinkedin.testutil.Assert.assertThrows;
 import static seedu.clinkedin.testutil.TypicalPersons.AMY;
+import static seedu.clinkedin.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.clinkedin.commons.util.FileUtil;
 import seedu.clinkedin.logic.commands.AddCommand;
 import seedu.clinkedin.logic.commands.CommandResult;
+import seedu.clinkedin.logic.commands.ExportCommand;
+import seedu.clinkedin.logic.commands.ImportCommand;
 import seedu.clinkedin.logic.commands.ListCommand;
+import seedu.clinkedin.logic.commands.ProgressListener;
 import seedu.clinkedin.logic.commands.exceptions.CommandException;
 import seedu.clinkedin.logic.parser.exceptions.ParseException;
 import seedu.clinkedin.model.Model;
@@ -91,6 +100,42 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommandWithStorageThrowingIoException_success() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // the address book is not saved, so the storage error is never raised
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void executeInBackground_importCommand_personsImportedWithProgress() throws Exception {
+        Path csvFile = temporaryFolder.resolve("persons.csv");
+        FileUtil.exportToCsvFile(csvFile.toString(),
+                ExportCommand.toCsvRows(getTypicalAddressBook().getPersonList(), ProgressListener.NONE));
+        List<Long> workLeft = new ArrayList<>();
+        ProgressListener progressListener = (workDone, totalWork) -> workLeft.add(totalWork - workDone);
+
+        CommandResult result = logic.executeInBackground(ImportCommand.COMMAND_WORD + " " + PREFIX_PATH + csvFile,
+                progressListener, Runnable::run).get();
+
+        assertEquals(ImportCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getAddressBook().getPersonList());
+        assertEquals(Long.valueOf(0), workLeft.get(workLeft.size() - 1));
+    }
+
+    @Test
+    public void executeInBackground_commandExecutionError_completesExceptionally() throws Exception {
+        Throwable error = logic.executeInBackground("delete 9", ProgressListener.NONE, Runnable::run)
+                .handle((unused, e) -> e).get();
+        assertTrue(error instanceof CommandException);
+        assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, error.getMessage());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -7,7 +7,9 @@ import static seedu.clinkedin.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.DoubleSummaryStatistics;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -106,6 +108,11 @@ public class AddTagCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -171,6 +178,11 @@ public class AddTagCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteTagTypeForAllPerson(TagType toDelete) {
             throw new AssertionError("This method should not be called.");
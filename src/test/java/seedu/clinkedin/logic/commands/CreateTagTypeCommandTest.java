@@ -2,11 +2,15 @@ package seedu.clinkedin.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.clinkedin.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.clinkedin.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.clinkedin.logic.parser.CliSyntax;
 import seedu.clinkedin.logic.parser.Prefix;
+import seedu.clinkedin.logic.parser.exceptions.DuplicatePrefixException;
+import seedu.clinkedin.model.ModelManager;
 import seedu.clinkedin.model.tag.TagType;
 
 public class CreateTagTypeCommandTest {
@@ -35,6 +39,14 @@ public class CreateTagTypeCommandTest {
                 new Prefix("")), null));
     }
 
+    @Test
+    public void execute_rankPrefix_throwsCommandException() {
+        TagType rankTagType = new TagType("Rank", CliSyntax.PREFIX_RANK);
+        CreateTagTypeCommand command = new CreateTagTypeCommand(rankTagType, CliSyntax.PREFIX_RANK);
+        assertCommandFailure(command, new ModelManager(), new DuplicatePrefixException().getMessage());
+        assertFalse(CliSyntax.getPrefixTags().contains(CliSyntax.PREFIX_RANK));
+    }
+
     @Test
     public void equals() {
         Prefix firstPrefix = new Prefix("abc");
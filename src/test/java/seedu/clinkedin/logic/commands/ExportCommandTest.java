@@ -0,0 +1,79 @@
+package seedu.clinkedin.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.clinkedin.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.clinkedin.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.clinkedin.logic.parser.CliSyntax;
+import seedu.clinkedin.logic.parser.ParserUtil.FileType;
+import seedu.clinkedin.model.Model;
+import seedu.clinkedin.model.ModelManager;
+import seedu.clinkedin.model.UserPrefs;
+import seedu.clinkedin.model.person.NameContainsKeywordsPredicate;
+import seedu.clinkedin.model.person.Person;
+import seedu.clinkedin.model.person.UniqueTagTypeMap;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_filteredList_filteredPersonsExported() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice", "Carl")));
+        String filePath = testFolder.resolve("exported.csv").toString();
+
+        ExportCommand exportCommand = new ExportCommand(filePath, FileType.CSV);
+        CommandResult result = exportCommand.execute(model);
+        List<Long> progress = new ArrayList<>();
+        exportCommand.finish((workDone, totalWork) -> progress.add(workDone));
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, filePath), result.getFeedbackToUser());
+        assertEquals(List.of(2L), progress);
+
+        Model importedModel = new ModelManager();
+        ImportCommand importCommand = new ImportCommand(filePath, FileType.CSV);
+        importCommand.prepare(ProgressListener.NONE);
+        importCommand.execute(importedModel);
+        assertEquals(model.getFilteredPersonList(), importedModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void finish_tagTypeDeletedAfterExecute_personsExportedAsExecuted() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> expectedPersons = new ArrayList<>(model.getFilteredPersonList());
+        String filePath = testFolder.resolve("exported.csv").toString();
+
+        ExportCommand exportCommand = new ExportCommand(filePath, FileType.CSV);
+        exportCommand.execute(model);
+        model.deleteTagTypeForAllPerson(UniqueTagTypeMap.getTagTypeFromPrefix(CliSyntax.PREFIX_SKILLTAG));
+        exportCommand.finish(ProgressListener.NONE);
+
+        Model importedModel = new ModelManager();
+        ImportCommand importCommand = new ImportCommand(filePath, FileType.CSV);
+        importCommand.prepare(ProgressListener.NONE);
+        importCommand.execute(importedModel);
+        assertEquals(expectedPersons, importedModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void toCsvRows_persons_rowsOfEachPersonInOrder() {
+        List<Person> persons = getTypicalPersons();
+        List<String[]> expectedRows = new ArrayList<>();
+        persons.forEach(person -> expectedRows.addAll(person.getDetailsAsArray()));
+
+        List<String[]> rows = new ArrayList<>();
+        ExportCommand.toCsvRows(persons, ProgressListener.NONE).forEach(rows::add);
+        assertEquals(expectedRows.size(), rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(List.of(expectedRows.get(i)), List.of(rows.get(i)));
+        }
+    }
+}
@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.clinkedin.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.clinkedin.commons.core.Messages.MESSAGE_RANKED_PERSONS_LISTED_OVERVIEW;
 import static seedu.clinkedin.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.clinkedin.testutil.TypicalPersons.BENSON;
 import static seedu.clinkedin.testutil.TypicalPersons.CARL;
+import static seedu.clinkedin.testutil.TypicalPersons.DANIEL;
 import static seedu.clinkedin.testutil.TypicalPersons.ELLE;
 import static seedu.clinkedin.testutil.TypicalPersons.FIONA;
 import static seedu.clinkedin.testutil.TypicalPersons.getTypicalAddressBook;
@@ -15,10 +18,12 @@ import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.clinkedin.logic.parser.CliSyntax;
 import seedu.clinkedin.model.Model;
 import seedu.clinkedin.model.ModelManager;
 import seedu.clinkedin.model.UserPrefs;
 import seedu.clinkedin.model.person.DetailsContainKeywordsPredicate;
+import seedu.clinkedin.model.person.UniqueTagTypeMap;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +57,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different rank limit -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, FindCommand.DEFAULT_RANK_LIMIT)));
     }
 
     @Test
@@ -74,6 +82,23 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_rankedBelowMatchCount_listsBestMatches() {
+        String expectedMessage = String.format(MESSAGE_RANKED_PERSONS_LISTED_OVERVIEW, 2, 3);
+        FindCommand command = new FindCommand(preparePredicate("Meier Kurz"), 2);
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+        assertEquals(Arrays.asList(BENSON, CARL), model.getFilteredPersonList());
+        assertFalse(model.getFilteredPersonList().contains(DANIEL));
+    }
+
+    @Test
+    public void execute_rankedThenTagTypeDeleted_matchingPersonsStillListed() {
+        new FindCommand(preparePredicate("a"), 10).execute(model);
+        int rankedCount = model.getFilteredPersonList().size();
+        model.deleteTagTypeForAllPerson(UniqueTagTypeMap.getTagTypeFromPrefix(CliSyntax.PREFIX_SKILLTAG));
+        assertEquals(rankedCount, model.getFilteredPersonList().size());
+    }
+
     /**
      * Parses {@code userInput} into a {@code DetailsContainKeywordsPredicate}.
      */
@@ -0,0 +1,94 @@
+package seedu.clinkedin.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.clinkedin.testutil.Assert.assertThrows;
+import static seedu.clinkedin.testutil.TypicalPersons.ALICE;
+import static seedu.clinkedin.testutil.TypicalPersons.BENSON;
+import static seedu.clinkedin.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.clinkedin.commons.util.FileUtil;
+import seedu.clinkedin.logic.commands.exceptions.CommandException;
+import seedu.clinkedin.logic.parser.ParserUtil.FileType;
+import seedu.clinkedin.model.Model;
+import seedu.clinkedin.model.ModelManager;
+import seedu.clinkedin.model.person.Person;
+import seedu.clinkedin.model.person.Phone;
+import seedu.clinkedin.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_someInvalidRecords_validPersonsImportedInOrder() throws Exception {
+        List<String[]> invalidRecord = new PersonBuilder().withName("Invalid Phone").build().getDetailsAsArray();
+        invalidRecord.set(1, new String[] {"Phone", "not a phone"});
+        List<String[]> rows = toRows(ALICE);
+        rows.addAll(invalidRecord);
+        rows.addAll(toRows(BENSON, CARL));
+        Path file = writeCsvFile(rows);
+
+        Model model = new ModelManager();
+        CommandResult result = importFile(file, model);
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), model.getAddressBook().getPersonList());
+        String expectedMessage = ImportCommand.MESSAGE_SUCCESS + "\n"
+                + String.format(ImportCommand.MESSAGE_INVALID_RECORDS, 1) + "\n"
+                + String.format(ImportCommand.MESSAGE_INVALID_RECORD, 2, Phone.MESSAGE_CONSTRAINTS);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_existingPersons_skipped() throws Exception {
+        Path file = writeCsvFile(toRows(ALICE, BENSON));
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+
+        CommandResult result = importFile(file, model);
+        assertEquals(ImportCommand.MESSAGE_SUCCESS + " " + ImportCommand.MESSAGE_SOME_CHANGE,
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void prepare_allRecordsInvalid_throwsCommandException() throws Exception {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[] {"Name", "Alice"});
+        rows.add(new String[] {});
+        Path file = writeCsvFile(rows);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_INVALID_RECORDS, 1) + "\n"
+                + String.format(ImportCommand.MESSAGE_INVALID_RECORD, 1, "All attributes not present!");
+        assertThrows(CommandException.class, expectedMessage, () ->
+                new ImportCommand(file.toString(), FileType.CSV).prepare(ProgressListener.NONE));
+    }
+
+    private CommandResult importFile(Path file, Model model) throws CommandException {
+        ImportCommand command = new ImportCommand(file.toString(), FileType.CSV);
+        command.prepare(ProgressListener.NONE);
+        return command.execute(model);
+    }
+
+    private List<String[]> toRows(Person... persons) {
+        List<String[]> rows = new ArrayList<>();
+        for (Person person : persons) {
+            rows.addAll(person.getDetailsAsArray());
+        }
+        return rows;
+    }
+
+    private Path writeCsvFile(List<String[]> rows) throws Exception {
+        Path file = testFolder.resolve("persons.csv");
+        FileUtil.exportToCsvFile(file.toString(), rows);
+        return file;
+    }
+}
@@ -31,4 +31,19 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_rankedArgs_returnsRankedFindCommand() {
+        DetailsContainKeywordsPredicate predicate = new DetailsContainKeywordsPredicate(Arrays.asList("Alice", "Bob"));
+        assertParseSuccess(parser, " rank/5 Alice Bob", new FindCommand(predicate, 5));
+        assertParseSuccess(parser, " rank/ Alice Bob", new FindCommand(predicate, FindCommand.DEFAULT_RANK_LIMIT));
+    }
+
+    @Test
+    public void parse_invalidRankedArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " rank/0 Alice", expectedMessage);
+        assertParseFailure(parser, " rank/ten Alice", expectedMessage);
+        assertParseFailure(parser, " rank/5", expectedMessage);
+    }
+
 }
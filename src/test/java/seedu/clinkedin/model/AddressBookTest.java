@@ -47,6 +47,22 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withVersionedAddressBook_replacesData() {
+        VersionedAddressBook newData = new VersionedAddressBook(getTypicalAddressBook());
+        addressBook.resetData(newData);
+        assertEquals(getTypicalAddressBook().getPersonList(), addressBook.getPersonList());
+        assertTrue(addressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void resetData_withItself_keepsData() {
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(addressBook);
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertEquals(1, addressBook.getCount());
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
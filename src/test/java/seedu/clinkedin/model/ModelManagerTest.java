@@ -2,21 +2,33 @@ package seedu.clinkedin.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.clinkedin.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.clinkedin.testutil.Assert.assertThrows;
 import static seedu.clinkedin.testutil.TypicalPersons.ALICE;
 import static seedu.clinkedin.testutil.TypicalPersons.BENSON;
+import static seedu.clinkedin.testutil.TypicalPersons.BOB;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.clinkedin.commons.core.GuiSettings;
+import seedu.clinkedin.logic.parser.CliSyntax;
+import seedu.clinkedin.logic.parser.Prefix;
+import seedu.clinkedin.model.person.DetailsContainKeywordsPredicate;
 import seedu.clinkedin.model.person.NameContainsKeywordsPredicate;
+import seedu.clinkedin.model.person.Person;
+import seedu.clinkedin.model.person.UniqueTagTypeMap;
+import seedu.clinkedin.model.tag.Tag;
+import seedu.clinkedin.model.tag.TagType;
 import seedu.clinkedin.testutil.AddressBookBuilder;
+import seedu.clinkedin.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -129,11 +141,79 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void addPersons_someExisting_addsOnlyNewPersonsInOneUndoStep() {
+        modelManager.addPerson(ALICE);
+        assertEquals(2, modelManager.addPersons(Arrays.asList(ALICE, BENSON, BOB, BOB)));
+        assertEquals(Arrays.asList(ALICE, BENSON, BOB), modelManager.getAddressBook().getPersonList());
+
+        modelManager.undoAddressBook();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void addPersons_allExisting_noChange() {
+        modelManager.addPerson(ALICE);
+        assertEquals(0, modelManager.addPersons(Collections.singletonList(ALICE)));
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void deleteTagTypeForAllPerson_personsWithTagType_tagTypeRemoved() {
+        TagType skills = UniqueTagTypeMap.getTagTypeFromPrefix(CliSyntax.PREFIX_SKILLTAG);
+        Person alice = new PersonBuilder(ALICE).build();
+        Person bob = new PersonBuilder(BOB).withTags().build();
+        modelManager.addPersons(Arrays.asList(alice, bob));
+        modelManager.updateFilteredPersonList(new DetailsContainKeywordsPredicate(Collections.emptySet(),
+                Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), Collections.emptySet(),
+                Collections.emptySet(), Collections.emptySet(), Collections.singletonMap(CliSyntax.PREFIX_SKILLTAG,
+                        Collections.singletonList("friends"))));
+        assertEquals(Collections.singletonList(alice), modelManager.getFilteredPersonList());
+
+        modelManager.deleteTagTypeForAllPerson(skills);
+        Person editedAlice = modelManager.getAddressBook().getPersonList().get(0);
+        assertNotSame(alice, editedAlice);
+        assertTrue(alice.getTags().containsKey(skills));
+        assertFalse(editedAlice.getTags().containsKey(skills));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void editTagTypeForAllPerson_personsWithTagType_tagTypeReplaced() {
+        TagType skills = UniqueTagTypeMap.getTagTypeFromPrefix(CliSyntax.PREFIX_SKILLTAG);
+        TagType abilities = new TagType("Abilities", new Prefix("abt/"));
+        Person alice = new PersonBuilder(ALICE).build();
+        Person bob = new PersonBuilder(BOB).withTags().build();
+        modelManager.addPersons(Arrays.asList(alice, bob));
+
+        modelManager.editTagTypeForAllPerson(skills, abilities);
+        Person editedAlice = modelManager.getAddressBook().getPersonList().get(0);
+        assertTrue(alice.getTags().containsKey(skills));
+        assertFalse(editedAlice.getTags().containsKey(skills));
+        assertTrue(editedAlice.getTags().get(abilities).contains(Tag.of("friends")));
+        assertSame(bob, modelManager.getAddressBook().getPersonList().get(1));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_aboveParallelFilterThreshold_sameResult() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelFilterThreshold(0);
+        ModelManager parallelModelManager = new ModelManager(addressBook, userPrefs);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Benson"));
+        parallelModelManager.updateFilteredPersonList(predicate);
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(modelManager.getFilteredPersonList(), parallelModelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
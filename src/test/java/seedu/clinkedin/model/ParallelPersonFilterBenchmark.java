@@ -0,0 +1,85 @@
+package seedu.clinkedin.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.clinkedin.model.person.DetailsContainKeywordsPredicate;
+import seedu.clinkedin.model.person.Person;
+import seedu.clinkedin.testutil.PersonBuilder;
+
+/**
+ * Compares refiltering a large {@code FilteredList} with a keyword predicate on one thread against refiltering it
+ * with the results of a {@link ParallelPersonFilter}.
+ * Not run as part of the tests; run {@link #main(String[])} directly.
+ */
+public class ParallelPersonFilterBenchmark {
+
+    private static final int PERSON_COUNT = 200_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /**
+     * Runs the benchmark and prints the time taken per refilter in each mode.
+     */
+    public static void main(String[] args) {
+        ObservableList<Person> persons = FXCollections.observableArrayList(createPersons());
+        ParallelPersonFilter parallelFilter = new ParallelPersonFilter(persons,
+                new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors())));
+        FilteredList<Person> filteredPersons = new FilteredList<>(persons);
+        List<Predicate<Person>> predicates = Arrays.asList(
+                new DetailsContainKeywordsPredicate(Arrays.asList("person12", "street")),
+                new DetailsContainKeywordsPredicate(Arrays.asList("example", "nobody")));
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runSequential(filteredPersons, predicates);
+            runParallel(filteredPersons, parallelFilter, predicates);
+        }
+        long sequentialNanos = 0;
+        long parallelNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sequentialNanos += runSequential(filteredPersons, predicates);
+            parallelNanos += runParallel(filteredPersons, parallelFilter, predicates);
+        }
+
+        System.out.printf("%d persons, %d threads%n", PERSON_COUNT, Runtime.getRuntime().availableProcessors());
+        System.out.printf("sequential: %.1f ms per refilter%n", toMillisPerRefilter(sequentialNanos, predicates));
+        System.out.printf("parallel:   %.1f ms per refilter%n", toMillisPerRefilter(parallelNanos, predicates));
+        System.out.printf("speedup:    %.2fx%n", (double) sequentialNanos / parallelNanos);
+    }
+
+    private static long runSequential(FilteredList<Person> filteredPersons, List<Predicate<Person>> predicates) {
+        long start = System.nanoTime();
+        for (Predicate<Person> predicate : predicates) {
+            filteredPersons.setPredicate(predicate);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long runParallel(FilteredList<Person> filteredPersons, ParallelPersonFilter parallelFilter,
+                                    List<Predicate<Person>> predicates) {
+        long start = System.nanoTime();
+        for (Predicate<Person> predicate : predicates) {
+            filteredPersons.setPredicate(parallelFilter.precompute(predicate));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static double toMillisPerRefilter(long nanos, List<Predicate<Person>> predicates) {
+        return nanos / 1e6 / MEASURED_ROUNDS / predicates.size();
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Person" + i).withAddress(i + " Some Street")
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        return persons;
+    }
+}
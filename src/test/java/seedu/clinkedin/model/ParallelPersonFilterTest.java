@@ -0,0 +1,54 @@
+package seedu.clinkedin.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.clinkedin.model.person.Person;
+import seedu.clinkedin.testutil.PersonBuilder;
+
+public class ParallelPersonFilterTest {
+
+    private static final int PERSON_COUNT = ParallelPersonFilter.CHUNK_SIZE * 3 + 7;
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(createPersons());
+    private final ParallelPersonFilter parallelFilter = new ParallelPersonFilter(persons, new ForkJoinPool(4));
+    private final Predicate<Person> predicate = person -> person.getName().fullName.endsWith("7");
+
+    @Test
+    public void precompute_sameResultsAsPredicate() {
+        Predicate<Person> precomputed = parallelFilter.precompute(predicate);
+        assertEquals(persons.stream().filter(predicate).collect(Collectors.toList()),
+                persons.stream().filter(precomputed).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void precompute_personsChanged_testsPredicate() {
+        Predicate<Person> precomputed = parallelFilter.precompute(predicate);
+        Person newPerson = new PersonBuilder().withName("New Person 7").build();
+        assertFalse(precomputed.test(newPerson));
+
+        persons.add(newPerson);
+        assertTrue(precomputed.test(newPerson));
+        assertTrue(precomputed.test(persons.get(7)));
+        assertFalse(precomputed.test(persons.get(8)));
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        return persons;
+    }
+}
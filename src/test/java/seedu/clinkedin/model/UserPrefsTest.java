@@ -1,5 +1,9 @@
 package seedu.clinkedin.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.clinkedin.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +22,37 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setUndoHistorySizeLimit_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistorySizeLimit(-1));
+    }
+
+    @Test
+    public void setUndoHistorySizeLimit_validLimit_copiedWithPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(VersionedAddressBook.DEFAULT_HISTORY_SIZE_LIMIT, userPrefs.getUndoHistorySizeLimit());
+
+        userPrefs.setUndoHistorySizeLimit(10);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertEquals(10, copy.getUndoHistorySizeLimit());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
+    @Test
+    public void isJournalEnabled_default_false() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.isJournalEnabled());
+
+        userPrefs.setJournalEnabled(true);
+        assertTrue(new UserPrefs(userPrefs).isJournalEnabled());
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
+    @Test
+    public void setParallelFilterThreshold_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setParallelFilterThreshold(-1));
+    }
 }
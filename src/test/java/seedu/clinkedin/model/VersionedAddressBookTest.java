@@ -1,15 +1,25 @@
 package seedu.clinkedin.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.clinkedin.testutil.Assert.assertThrows;
+import static seedu.clinkedin.testutil.TypicalPersons.ALICE;
+import static seedu.clinkedin.testutil.TypicalPersons.BENSON;
+import static seedu.clinkedin.testutil.TypicalPersons.BOB;
 import static seedu.clinkedin.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.clinkedin.commons.exceptions.CannotRedoAddressBookException;
 import seedu.clinkedin.commons.exceptions.CannotUndoAddressBookException;
+import seedu.clinkedin.model.person.Person;
 
 class VersionedAddressBookTest {
 
@@ -21,22 +31,16 @@ class VersionedAddressBookTest {
     }
 
     @Test
-    public void constructor_withNonEmptyAddressBookAndEmptyStateList() {
-        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(),
-                Collections.emptyList());
+    public void constructor_withNonEmptyAddressBook() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
         assertEquals(versionedAddressBook.getPersonList(), getTypicalAddressBook().getPersonList());
-    }
-
-    @Test
-    public void constructor_withEmptyStateList() {
-        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(Collections.emptyList());
-        assertEquals(Collections.emptyList(), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canUndo());
     }
 
     @Test
     void commit_newAddressBook_noStatesRemovedCurrentStateSaved() {
         addressBook.commit();
-        assertEquals(addressBook.getAddressBookStateList().size(), 2);
+        assertEquals(1, addressBook.getUndoableStateCount());
     }
 
     @Test
@@ -58,4 +62,101 @@ class VersionedAddressBookTest {
     void canRedo_initialState_returnsFalse() {
         assertEquals(addressBook.canRedo(), false);
     }
+
+    @Test
+    void undo_removePerson_restoresPersonAtSameIndex() throws Exception {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+        List<Person> expected = new ArrayList<>(versionedAddressBook.getPersonList());
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(expected, versionedAddressBook.getPersonList());
+        assertTrue(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    void undo_setPerson_changesOnlyOneRow() throws Exception {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+        versionedAddressBook.setPerson(BENSON, BOB);
+        versionedAddressBook.commit();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        versionedAddressBook.getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        versionedAddressBook.undo();
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Person> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(1, change.getFrom());
+        assertEquals(Collections.singletonList(BENSON), change.getAddedSubList());
+        assertFalse(change.next());
+    }
+
+    @Test
+    void undoRedo_addPersons_oneState() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.commit();
+        addressBook.addPersons(Arrays.asList(BOB, BENSON));
+        addressBook.commit();
+        assertEquals(2, addressBook.getUndoableStateCount());
+
+        addressBook.undo();
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+        addressBook.redo();
+        assertEquals(Arrays.asList(ALICE, BOB, BENSON), addressBook.getPersonList());
+    }
+
+    @Test
+    void undoRedo_multipleCommits_restoresEachState() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.commit();
+        addressBook.setPerson(ALICE, BOB);
+        addressBook.commit();
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.commit();
+
+        addressBook.undo();
+        assertEquals(Collections.singletonList(BOB), addressBook.getPersonList());
+        addressBook.undo();
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+        addressBook.undo();
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+
+        addressBook.redo();
+        addressBook.redo();
+        addressBook.redo();
+        assertEquals(getTypicalAddressBook().getPersonList(), addressBook.getPersonList());
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    void undo_uncommittedChanges_discardsThem() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.commit();
+        addressBook.addPerson(BOB);
+        addressBook.undo();
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+    }
+
+    @Test
+    void commit_beyondHistoryLimit_dropsOldestStates() {
+        VersionedAddressBook limitedAddressBook = new VersionedAddressBook(new AddressBook(), 2,
+                VersionedAddressBook.DEFAULT_HISTORY_SIZE_LIMIT);
+        limitedAddressBook.addPerson(ALICE);
+        limitedAddressBook.commit();
+        limitedAddressBook.addPerson(BOB);
+        limitedAddressBook.commit();
+        limitedAddressBook.addPerson(BENSON);
+        limitedAddressBook.commit();
+        assertEquals(2, limitedAddressBook.getUndoableStateCount());
+    }
+
+    @Test
+    void commit_beyondHistorySizeLimit_dropsOldestStates() {
+        VersionedAddressBook limitedAddressBook = new VersionedAddressBook(new AddressBook(),
+                VersionedAddressBook.DEFAULT_HISTORY_LIMIT, 1);
+        limitedAddressBook.resetData(getTypicalAddressBook());
+        limitedAddressBook.commit();
+        assertFalse(limitedAddressBook.canUndo());
+    }
 }
@@ -0,0 +1,72 @@
+package seedu.clinkedin.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.clinkedin.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.clinkedin.testutil.PersonBuilder;
+
+public class PersonRankingTest {
+
+    private static final Person NAME_MATCH = new PersonBuilder().withName("Java Dev").build();
+    private static final Person NOTE_MATCH = new PersonBuilder().withName("Note Writer").withNote("java java").build();
+    private static final Person TAG_MATCH = new PersonBuilder().withName("Tag Holder").withTags("java").build();
+    private static final Person NAME_AND_NOTE_MATCH = new PersonBuilder().withName("Alex Java").withNote("java")
+            .build();
+    private static final Person NO_MATCH = new PersonBuilder().withName("Nobody").build();
+
+    private final List<Person> persons = Arrays.asList(NAME_MATCH, NOTE_MATCH, NO_MATCH, TAG_MATCH,
+            NAME_AND_NOTE_MATCH);
+    private final DetailsContainKeywordsPredicate predicate =
+            new DetailsContainKeywordsPredicate(Collections.singletonList("java"));
+
+    @Test
+    public void score_weightsFieldsAndCountsOccurrences() {
+        assertEquals(DetailsContainKeywordsPredicate.NAME_WEIGHT, predicate.score(NAME_MATCH));
+        assertEquals(2 * DetailsContainKeywordsPredicate.NOTE_WEIGHT, predicate.score(NOTE_MATCH));
+        assertEquals(DetailsContainKeywordsPredicate.TAG_WEIGHT, predicate.score(TAG_MATCH));
+        assertEquals(0, predicate.score(NO_MATCH));
+    }
+
+    @Test
+    public void constructor_limitBelowMatches_keepsBestInOrder() {
+        List<Person> matches = persons.stream().filter(predicate).collect(Collectors.toList());
+        PersonRanking ranking = new PersonRanking(matches, predicate, 3);
+        assertEquals(4, ranking.getMatchCount());
+        assertFalse(ranking.contains(NOTE_MATCH));
+        assertFalse(ranking.contains(NO_MATCH));
+        assertEquals(Arrays.asList(NAME_AND_NOTE_MATCH, NAME_MATCH, TAG_MATCH), persons.stream()
+                .filter(ranking::contains).sorted(ranking).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void constructor_equalScores_keepsAddressBookOrder() {
+        Person otherNameMatch = new PersonBuilder().withName("Java Tan").build();
+        PersonRanking ranking = new PersonRanking(Arrays.asList(otherNameMatch, NAME_MATCH), predicate, 1);
+        assertTrue(ranking.contains(otherNameMatch));
+        assertFalse(ranking.contains(NAME_MATCH));
+    }
+
+    @Test
+    public void contains_replacedPerson_keptOnlyIfStillMatching() {
+        PersonRanking ranking = new PersonRanking(Arrays.asList(NAME_MATCH, TAG_MATCH), predicate, 2);
+        Person matchingCopy = new PersonBuilder(NAME_MATCH).withNote("moved").build();
+        Person nonMatchingCopy = new PersonBuilder(TAG_MATCH).withTags().build();
+        assertTrue(ranking.contains(matchingCopy));
+        assertFalse(ranking.contains(nonMatchingCopy));
+        assertTrue(ranking.compare(matchingCopy, TAG_MATCH) < 0);
+    }
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonRanking(persons, predicate, 0));
+    }
+}
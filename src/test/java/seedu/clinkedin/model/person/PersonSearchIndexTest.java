@@ -0,0 +1,151 @@
+package seedu.clinkedin.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.clinkedin.testutil.TypicalPersons.ALICE;
+import static seedu.clinkedin.testutil.TypicalPersons.BENSON;
+import static seedu.clinkedin.testutil.TypicalPersons.BOB;
+import static seedu.clinkedin.testutil.TypicalPersons.DANIEL;
+import static seedu.clinkedin.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.clinkedin.logic.parser.CliSyntax;
+import seedu.clinkedin.logic.parser.Prefix;
+import seedu.clinkedin.model.Model;
+import seedu.clinkedin.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex(persons);
+
+    @Test
+    public void search_sameResultsAsPredicate() {
+        List<List<String>> searches = Arrays.asList(
+                Collections.singletonList("meier"),
+                Arrays.asList("Kurz", "Elle", "Kunz"),
+                Collections.singletonList("EXAMPLE.COM"),
+                Collections.singletonList("friend"),
+                Collections.singletonList("received"),
+                Collections.singletonList("9482"),
+                Collections.singletonList("nobody"));
+        for (List<String> keywords : searches) {
+            DetailsContainKeywordsPredicate predicate = new DetailsContainKeywordsPredicate(keywords);
+            Set<Person> expected = persons.stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, searchIndex.search(keywords), "keywords: " + keywords);
+        }
+    }
+
+    @Test
+    public void search_afterPersonsChanged_reflectsChanges() {
+        List<String> keywords = Collections.singletonList("bob");
+        assertTrue(searchIndex.search(keywords).isEmpty());
+
+        persons.add(BOB);
+        assertEquals(Collections.singleton(BOB), searchIndex.search(keywords));
+
+        persons.remove(BOB);
+        assertTrue(searchIndex.search(keywords).isEmpty());
+
+        persons.set(persons.indexOf(ALICE), new PersonBuilder(ALICE).withNote("Knows bobsled").build());
+        assertEquals(1, searchIndex.search(keywords).size());
+        assertTrue(searchIndex.search(Collections.singletonList("java")).isEmpty());
+    }
+
+    @Test
+    public void optimise_otherPredicates_returnedUnchanged() {
+        Predicate<Person> showAll = Model.PREDICATE_SHOW_ALL_PERSONS;
+        assertSame(showAll, searchIndex.optimise(showAll));
+
+        DetailsContainKeywordsPredicate emptyKeywords = new DetailsContainKeywordsPredicate(Collections.emptyList());
+        assertSame(emptyKeywords, searchIndex.optimise(emptyKeywords));
+    }
+
+    @Test
+    public void optimise_keywordPredicate_staysCorrectAfterEdit() {
+        Predicate<Person> predicate = searchIndex.optimise(
+                new DetailsContainKeywordsPredicate(Collections.singletonList("humour")));
+        assertTrue(predicate.test(BENSON));
+
+        Person editedBenson = new PersonBuilder(BENSON).withNote("Serious").build();
+        persons.set(persons.indexOf(BENSON), editedBenson);
+        assertFalse(predicate.test(editedBenson));
+    }
+
+    @Test
+    public void searchByField_sameResultsAsPredicate() {
+        List<DetailsContainKeywordsPredicate> searches = Arrays.asList(
+                byName("meier"),
+                byName("EL"),
+                byName("Kurz", "Pauline"),
+                byName("Zzz"),
+                new DetailsContainKeywordsPredicate(Collections.emptySet(), Collections.singleton(new Phone("948")),
+                        Collections.singleton(new Email("alice@example.com")),
+                        Collections.singleton(new Address("street")), Collections.singleton(new Status("oa")),
+                        Collections.singleton(new Note("java")), Collections.singleton(new Rating("6")),
+                        Collections.emptyMap()));
+        for (DetailsContainKeywordsPredicate predicate : searches) {
+            Set<Person> expected = persons.stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, searchIndex.search(predicate));
+            assertEquals(expected, persons.stream().filter(searchIndex.optimise(predicate))
+                    .collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void optimise_fieldAndTagPredicate_matchesEither() {
+        Map<Prefix, List<String>> tagKeywords = Collections.singletonMap(CliSyntax.PREFIX_SKILLTAG,
+                Collections.singletonList("owes"));
+        Predicate<Person> predicate = searchIndex.optimise(new DetailsContainKeywordsPredicate(
+                Collections.singleton(new Name("Daniel")), Collections.emptySet(), Collections.emptySet(),
+                Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), Collections.emptySet(),
+                tagKeywords));
+        assertEquals(Arrays.asList(BENSON, DANIEL), persons.filtered(predicate));
+    }
+
+    @Test
+    public void searchByTag_sameResultsAsPredicate() {
+        for (String keyword : Arrays.asList("friends", "OWES", "end", "nobody")) {
+            DetailsContainKeywordsPredicate predicate = new DetailsContainKeywordsPredicate(Collections.emptySet(),
+                    Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), Collections.emptySet(),
+                    Collections.emptySet(), Collections.emptySet(), Collections.singletonMap(
+                            CliSyntax.PREFIX_SKILLTAG, Collections.singletonList(keyword)));
+            Set<Person> expected = persons.stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, searchIndex.search(predicate), "keyword: " + keyword);
+            assertNotSame(predicate, searchIndex.optimise(predicate));
+        }
+    }
+
+    @Test
+    public void optimise_fieldPredicate_staysCorrectAfterEdit() {
+        Predicate<Person> predicate = searchIndex.optimise(byName("Pauline"));
+        assertTrue(predicate.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        persons.set(persons.indexOf(ALICE), editedAlice);
+        assertFalse(predicate.test(editedAlice));
+    }
+
+    private static DetailsContainKeywordsPredicate byName(String... names) {
+        Set<Name> nameKeywords = new HashSet<>();
+        Arrays.stream(names).forEach(name -> nameKeywords.add(new Name(name)));
+        return new DetailsContainKeywordsPredicate(nameKeywords, Collections.emptySet(), Collections.emptySet(),
+                Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), Collections.emptySet(),
+                Collections.emptyMap());
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.clinkedin.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.clinkedin.testutil.TypicalPersons.ALICE;
+import static seedu.clinkedin.testutil.TypicalPersons.BENSON;
+import static seedu.clinkedin.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.clinkedin.logic.parser.CliSyntax;
+import seedu.clinkedin.model.tag.Tag;
+import seedu.clinkedin.model.tag.TagType;
+import seedu.clinkedin.testutil.PersonBuilder;
+
+public class PersonTagIndexTest {
+
+    private static final TagType SKILLS = UniqueTagTypeMap.getTagTypeFromPrefix(CliSyntax.PREFIX_SKILLTAG);
+    private static final TagType DEGREE = UniqueTagTypeMap.getTagTypeFromPrefix(CliSyntax.PREFIX_DEGREETAG);
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final PersonTagIndex tagIndex = new PersonSearchIndex(persons).getTagIndex();
+
+    @Test
+    public void getPersonsWithTagType_sameAsScan() {
+        Set<Person> expected = persons.stream().filter(person -> person.getTags().containsKey(SKILLS))
+                .collect(Collectors.toSet());
+        assertEquals(expected, tagIndex.getPersonsWithTagType(SKILLS));
+        assertTrue(tagIndex.getPersonsWithTagType(DEGREE).isEmpty());
+    }
+
+    @Test
+    public void countPersons_sameAsScan() {
+        for (Tag tag : Set.of(Tag.of("friends"), Tag.of("owesMoney"), Tag.of("nobody"))) {
+            long expected = persons.stream().filter(person -> person.getTags().containsKey(SKILLS)
+                    && person.getTags().get(SKILLS).contains(tag)).count();
+            assertEquals(expected, tagIndex.countPersons(SKILLS, tag), "tag: " + tag);
+        }
+        assertEquals(0, tagIndex.countPersons(DEGREE, Tag.of("friends")));
+        assertEquals(tagIndex.countPersons(SKILLS, Tag.of("friends")),
+                tagIndex.getTagCounts(SKILLS).get(Tag.of("friends")));
+    }
+
+    @Test
+    public void countPersons_afterPersonsChanged_reflectsChanges() {
+        int friendCount = tagIndex.countPersons(SKILLS, Tag.of("friends"));
+
+        persons.remove(BENSON);
+        assertEquals(friendCount - 1, tagIndex.countPersons(SKILLS, Tag.of("friends")));
+        assertEquals(0, tagIndex.countPersons(SKILLS, Tag.of("owesMoney")));
+
+        persons.set(persons.indexOf(ALICE), new PersonBuilder(ALICE).withTags().build());
+        assertEquals(friendCount - 2, tagIndex.countPersons(SKILLS, Tag.of("friends")));
+    }
+
+    @Test
+    public void remove_afterTagsChangedInPlace_removedByOldTags() {
+        Person alice = new PersonBuilder(ALICE).build();
+        persons.add(alice);
+        int friendCount = tagIndex.countPersons(SKILLS, Tag.of("friends"));
+
+        alice.deleteTagType(SKILLS);
+        persons.set(persons.size() - 1, alice);
+        assertEquals(friendCount - 1, tagIndex.countPersons(SKILLS, Tag.of("friends")));
+        assertFalse(tagIndex.getPersonsWithTagType(SKILLS).contains(alice));
+    }
+}
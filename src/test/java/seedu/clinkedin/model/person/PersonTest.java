@@ -1,6 +1,7 @@
 package seedu.clinkedin.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.clinkedin.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.clinkedin.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -15,6 +16,9 @@ import static seedu.clinkedin.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.clinkedin.model.tag.Tag;
+import seedu.clinkedin.model.tag.TagType;
+import seedu.clinkedin.model.util.SampleDataUtil;
 import seedu.clinkedin.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -26,6 +30,28 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().clear());
     }
 
+    @Test
+    public void getSearchWords_tagsChanged_recomputed() {
+        Person person = new PersonBuilder(ALICE).build();
+        assertTrue(person.getSearchWords().contains("alice"));
+        assertSame(person.getSearchWords(), person.getSearchWords());
+
+        person.setTagTypeMap(SampleDataUtil.getTagTypeMap(VALID_TAG_HUSBAND));
+        String tag = VALID_TAG_HUSBAND.toLowerCase();
+        assertTrue(person.getSearchWords().stream().anyMatch(word -> word.contains(tag)));
+    }
+
+    @Test
+    public void getSearchWords_tagAddedToTagList_recomputed() {
+        Person person = new PersonBuilder(ALICE).build();
+        TagType tagType = person.getTags().keySet().iterator().next();
+        person.getSearchWords();
+
+        person.getTags().get(tagType).add(Tag.of(VALID_TAG_HUSBAND));
+        String tag = VALID_TAG_HUSBAND.toLowerCase();
+        assertTrue(person.getSearchWords().stream().anyMatch(word -> word.contains(tag)));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -0,0 +1,101 @@
+package seedu.clinkedin.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.clinkedin.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.clinkedin.logic.parser.Prefix;
+import seedu.clinkedin.logic.parser.exceptions.DuplicatePrefixException;
+import seedu.clinkedin.logic.parser.exceptions.PrefixNotFoundException;
+import seedu.clinkedin.model.person.exceptions.DuplicateTagTypeException;
+import seedu.clinkedin.model.person.exceptions.TagTypeNotFoundException;
+import seedu.clinkedin.model.tag.TagType;
+
+public class TagTypeRegistryTest {
+
+    private static final Prefix PREFIX_NAME = new Prefix("n/");
+    private static final Prefix PREFIX_SKILLS = new Prefix("st/");
+    private static final Prefix PREFIX_DEGREE = new Prefix("dt/");
+    private static final TagType SKILLS = new TagType("Skills", PREFIX_SKILLS);
+    private static final TagType DEGREE = new TagType("Degree", PREFIX_DEGREE);
+
+    private TagTypeRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        Map<Prefix, TagType> tagTypes = new LinkedHashMap<>();
+        tagTypes.put(PREFIX_SKILLS, SKILLS);
+        registry = new TagTypeRegistry(tagTypes, Collections.singletonList(PREFIX_NAME));
+    }
+
+    @Test
+    public void add_newTagType_lookedUpBothWays() {
+        registry.add(PREFIX_DEGREE, DEGREE);
+        TagTypeRegistry.Snapshot snapshot = registry.getSnapshot();
+        assertEquals(DEGREE, snapshot.getTagType(PREFIX_DEGREE));
+        assertEquals(PREFIX_DEGREE, snapshot.getPrefix("Degree"));
+        assertEquals(Arrays.asList(PREFIX_SKILLS, PREFIX_DEGREE), snapshot.getPrefixes());
+    }
+
+    @Test
+    public void add_duplicatePrefixOrName_throwsAndLeavesRegistryUnchanged() {
+        TagTypeRegistry.Snapshot snapshot = registry.getSnapshot();
+        assertThrows(DuplicatePrefixException.class, () -> registry.add(PREFIX_SKILLS, DEGREE));
+        assertThrows(DuplicatePrefixException.class, () -> registry.add(PREFIX_NAME, new TagType("Name",
+                PREFIX_NAME)));
+        assertThrows(DuplicateTagTypeException.class, () -> registry.add(PREFIX_DEGREE,
+                new TagType("Skills", PREFIX_DEGREE)));
+        assertSame(snapshot, registry.getSnapshot());
+    }
+
+    @Test
+    public void remove_registeredTagType_removed() {
+        registry.remove(SKILLS);
+        assertNull(registry.getSnapshot().getTagType(PREFIX_SKILLS));
+        assertNull(registry.getSnapshot().getPrefix("Skills"));
+        assertThrows(TagTypeNotFoundException.class, () -> registry.remove(SKILLS));
+    }
+
+    @Test
+    public void replace_validReplacement_replacedInPlace() {
+        registry.add(PREFIX_DEGREE, DEGREE);
+        Prefix abilitiesPrefix = new Prefix("abt/");
+        TagType abilities = new TagType("Abilities", abilitiesPrefix);
+        registry.replace(PREFIX_SKILLS, abilitiesPrefix, abilities);
+
+        TagTypeRegistry.Snapshot snapshot = registry.getSnapshot();
+        assertEquals(Arrays.asList(abilitiesPrefix, PREFIX_DEGREE), snapshot.getPrefixes());
+        assertNull(snapshot.getPrefix("Skills"));
+        assertEquals(abilitiesPrefix, snapshot.getPrefix("Abilities"));
+    }
+
+    @Test
+    public void replace_invalidReplacement_throwsAndLeavesRegistryUnchanged() {
+        registry.add(PREFIX_DEGREE, DEGREE);
+        TagTypeRegistry.Snapshot snapshot = registry.getSnapshot();
+        assertThrows(PrefixNotFoundException.class, () -> registry.replace(new Prefix("x/"), new Prefix("y/"),
+                new TagType("Y", new Prefix("y/"))));
+        assertThrows(DuplicatePrefixException.class, () -> registry.replace(PREFIX_SKILLS, PREFIX_DEGREE,
+                new TagType("Abilities", PREFIX_DEGREE)));
+        assertThrows(DuplicateTagTypeException.class, () -> registry.replace(PREFIX_SKILLS, PREFIX_SKILLS,
+                new TagType("Degree", PREFIX_SKILLS)));
+        assertSame(snapshot, registry.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_notSeen() {
+        TagTypeRegistry.Snapshot snapshot = registry.getSnapshot();
+        registry.add(PREFIX_DEGREE, DEGREE);
+        assertNull(snapshot.getTagType(PREFIX_DEGREE));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.asMap().remove(PREFIX_SKILLS));
+    }
+}
@@ -2,19 +2,25 @@ package seedu.clinkedin.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.clinkedin.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.clinkedin.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.clinkedin.testutil.Assert.assertThrows;
 import static seedu.clinkedin.testutil.TypicalPersons.ALICE;
+import static seedu.clinkedin.testutil.TypicalPersons.BENSON;
 import static seedu.clinkedin.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.clinkedin.model.person.exceptions.DuplicatePersonException;
 import seedu.clinkedin.model.person.exceptions.PersonNotFoundException;
 import seedu.clinkedin.testutil.PersonBuilder;
@@ -58,6 +64,70 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAtIndex_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(0, ALICE));
+    }
+
+    @Test
+    public void addAtIndex_newPerson_insertsAtIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(0, BOB);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicateWithinPersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(ALICE, ALICE)));
+        assertEquals(Collections.emptyList(), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_newPersons_addedInOneChange() {
+        uniquePersonList.add(ALICE);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        uniquePersonList.addAll(Arrays.asList(BOB, BENSON));
+        assertEquals(Arrays.asList(ALICE, BOB, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BENSON));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void removeRange_existingPersons_removesPersons() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB, BENSON));
+        uniquePersonList.removeRange(0, 2);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+        assertEquals(Collections.singletonList(BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAtIndex_existingPerson_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(ALICE, uniquePersonList.remove(0));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersonAtIndex_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(0, BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -102,6 +172,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -109,6 +188,19 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void replacePersons_editedTags_personsReplacedInPlace() {
+        uniquePersonList.addAll(0, Arrays.asList(ALICE, BENSON));
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        Map<Person, Person> editedPersons = new IdentityHashMap<>();
+        editedPersons.put(BENSON, editedBenson);
+        editedPersons.put(BOB, BOB);
+        uniquePersonList.replacePersons(editedPersons);
+        assertEquals(Arrays.asList(ALICE, editedBenson), uniquePersonList.asUnmodifiableObservableList());
+        assertSame(editedBenson, uniquePersonList.asUnmodifiableObservableList().get(1));
+        assertTrue(uniquePersonList.contains(editedBenson));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +219,21 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_identityNoLongerContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -0,0 +1,91 @@
+package seedu.clinkedin.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.clinkedin.model.link.Link;
+import seedu.clinkedin.model.tag.Tag;
+import seedu.clinkedin.model.tag.TagType;
+
+/**
+ * Compares validating the fields of a large address book with {@code String#matches} on the validation regexes,
+ * which compiles the regex on every call, against validating them with the {@code isValid} methods of the value
+ * classes.
+ * Not run as part of the tests; run {@link #main(String[])} directly.
+ */
+public class ValidationBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Runs the benchmark and prints the time taken per validation of all fields in each mode.
+     */
+    public static void main(String[] args) {
+        List<Field> fields = createFields();
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            timeValidation(fields, true);
+            timeValidation(fields, false);
+        }
+        long regexNanos = 0;
+        long validatorNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            regexNanos += timeValidation(fields, true);
+            validatorNanos += timeValidation(fields, false);
+        }
+
+        System.out.printf("%d persons, %d fields%n", PERSON_COUNT, fields.size());
+        System.out.printf("String#matches: %.1f ms per validation%n", regexNanos / 1e6 / MEASURED_ROUNDS);
+        System.out.printf("validators:     %.1f ms per validation%n", validatorNanos / 1e6 / MEASURED_ROUNDS);
+        System.out.printf("speedup:        %.2fx%n", (double) regexNanos / validatorNanos);
+    }
+
+    private static long timeValidation(List<Field> fields, boolean isRegex) {
+        long start = System.nanoTime();
+        int invalidCount = 0;
+        for (Field field : fields) {
+            boolean isValid = isRegex ? field.value.matches(field.regex) : field.validator.test(field.value);
+            if (!isValid) {
+                invalidCount++;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        if (invalidCount != 0) {
+            throw new AssertionError(invalidCount + " fields are invalid");
+        }
+        return nanos;
+    }
+
+    private static List<Field> createFields() {
+        List<Field> fields = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            fields.add(new Field("Person " + i, Name.VALIDATION_REGEX, Name::isValidName));
+            fields.add(new Field(Integer.toString(90000000 + i), Phone.VALIDATION_REGEX, Phone::isValidPhone));
+            fields.add(new Field("person" + i + "@example.com", Email.VALIDATION_REGEX, Email::isValidEmail));
+            fields.add(new Field(i + " Some Street", Address.VALIDATION_REGEX, Address::isValidAddress));
+            fields.add(new Field("Application received", Status.VALIDATION_REGEX, Status::isValidStatus));
+            fields.add(new Field("Skills", TagType.VALIDATION_REGEX, TagType::isValidTagType));
+            fields.add(new Field("Java " + (i % 10), Tag.VALIDATION_REGEX, Tag::isValidTagName));
+            fields.add(new Field("https://github.com/person" + i, Link.VALIDATION_REGEX, Link::isValidLink));
+        }
+        return fields;
+    }
+
+    /**
+     * A field value with the regex and the validator it is checked with.
+     */
+    private static class Field {
+        private final String value;
+        private final String regex;
+        private final Predicate<String> validator;
+
+        Field(String value, String regex, Predicate<String> validator) {
+            this.value = value;
+            this.regex = regex;
+            this.validator = validator;
+        }
+    }
+}
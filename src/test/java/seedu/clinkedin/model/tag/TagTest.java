@@ -1,5 +1,7 @@
 package seedu.clinkedin.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.clinkedin.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,18 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_equalTagNames_returnsSameTag() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of(new String("friends")));
+        assertEquals(new Tag("friends"), tag);
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -0,0 +1,73 @@
+package seedu.clinkedin.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.clinkedin.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.clinkedin.model.tag.exceptions.DuplicateTagException;
+import seedu.clinkedin.model.tag.exceptions.TagNotFoundException;
+
+public class UniqueTagListTest {
+
+    private static final Tag JAVA = new Tag("Java");
+    private static final Tag PYTHON = new Tag("Python");
+    private static final Tag RUST = new Tag("Rust");
+
+    private final UniqueTagList uniqueTagList = new UniqueTagList();
+
+    @Test
+    public void add_duplicateTag_throwsDuplicateTagException() {
+        uniqueTagList.add(JAVA);
+        assertThrows(DuplicateTagException.class, () -> uniqueTagList.add(new Tag("Java")));
+    }
+
+    @Test
+    public void merge_newTags_addedInOrder() {
+        uniqueTagList.add(RUST);
+        uniqueTagList.merge(listOf(JAVA, PYTHON));
+        assertEquals(Arrays.asList(RUST, JAVA, PYTHON), uniqueTagList.asUnmodifiableObservableList());
+        assertTrue(uniqueTagList.containsAll(listOf(PYTHON, RUST)));
+    }
+
+    @Test
+    public void merge_existingTag_throwsDuplicateTagException() {
+        uniqueTagList.add(JAVA);
+        assertThrows(DuplicateTagException.class, () -> uniqueTagList.merge(listOf(PYTHON, JAVA)));
+        assertFalse(uniqueTagList.contains(PYTHON));
+    }
+
+    @Test
+    public void setTag_replacesTagInPlace() {
+        uniqueTagList.setTags(Arrays.asList(JAVA, PYTHON));
+        uniqueTagList.setTag(JAVA, RUST);
+        assertEquals(Arrays.asList(RUST, PYTHON), uniqueTagList.asUnmodifiableObservableList());
+        assertFalse(uniqueTagList.contains(JAVA));
+        assertThrows(TagNotFoundException.class, () -> uniqueTagList.setTag(JAVA, JAVA));
+    }
+
+    @Test
+    public void removeAll_someTags_remainingTagsKeepOrder() {
+        uniqueTagList.setTags(Arrays.asList(JAVA, PYTHON, RUST));
+        uniqueTagList.removeAll(listOf(RUST, JAVA));
+        assertEquals(Collections.singletonList(PYTHON), uniqueTagList.asUnmodifiableObservableList());
+        assertFalse(uniqueTagList.containsAny(listOf(JAVA, RUST)));
+        assertThrows(TagNotFoundException.class, () -> uniqueTagList.removeAll(listOf(JAVA)));
+    }
+
+    @Test
+    public void setTags_duplicateTags_throwsDuplicateTagException() {
+        assertThrows(DuplicateTagException.class, () -> uniqueTagList.setTags(Arrays.asList(JAVA, JAVA)));
+    }
+
+    private static UniqueTagList listOf(Tag... tags) {
+        UniqueTagList list = new UniqueTagList();
+        list.setTags(Arrays.asList(tags));
+        return list;
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.clinkedin.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.clinkedin.model.AddressBook;
+import seedu.clinkedin.testutil.PersonBuilder;
+
+/**
+ * Compares the time taken to load a large address book from a json file against loading it from a binary file.
+ * Not run as part of the tests; run {@link #main(String[])} directly.
+ */
+public class AddressBookLoadBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Runs the benchmark and prints the file size and time taken per load in each format.
+     */
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("loadBenchmark");
+        AddressBook addressBook = createAddressBook();
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(folder.resolve("addressbook.bin"));
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            timeLoad(jsonStorage);
+            timeLoad(binaryStorage);
+        }
+        long jsonNanos = 0;
+        long binaryNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            jsonNanos += timeLoad(jsonStorage);
+            binaryNanos += timeLoad(binaryStorage);
+        }
+
+        System.out.printf("%d persons%n", PERSON_COUNT);
+        System.out.printf("json:   %.1f ms per load, %d KB%n", jsonNanos / 1e6 / MEASURED_ROUNDS,
+                Files.size(jsonStorage.getAddressBookFilePath()) / 1024);
+        System.out.printf("binary: %.1f ms per load, %d KB%n", binaryNanos / 1e6 / MEASURED_ROUNDS,
+                Files.size(binaryStorage.getAddressBookFilePath()) / 1024);
+        System.out.printf("speedup: %.2fx%n", (double) jsonNanos / binaryNanos);
+
+        Files.delete(jsonStorage.getAddressBookFilePath());
+        Files.delete(binaryStorage.getAddressBookFilePath());
+        Files.delete(folder);
+    }
+
+    private static long timeLoad(AddressBookStorage storage) throws Exception {
+        long start = System.nanoTime();
+        if (storage.readAddressBook().get().getCount() != PERSON_COUNT) {
+            throw new AssertionError("Persons missing after load");
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static AddressBook createAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        String[] statuses = {"Application Received", "OA in Progress", "Interview in Progress", "Accepted"};
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person" + i).withAddress(i + " Some Street")
+                    .withEmail("person" + i + "@example.com").withPhone(Integer.toString(90000000 + i))
+                    .withStatus(statuses[i % statuses.length]).withRating(Integer.toString(i % 11))
+                    .withTags("Java", "Team" + (i % 20)).withNote("Met at career fair " + (i % 50)).build());
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.clinkedin.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.clinkedin.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.clinkedin.model.AddressBook;
+import seedu.clinkedin.model.ReadOnlyAddressBook;
+
+public class AddressBookWriterTest {
+
+    private static final Path FILE_PATH = Paths.get("unused.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_thenFlush_addressBookWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        AddressBookWriter writer = new AddressBookWriter(jsonStorage);
+
+        AddressBook original = getTypicalAddressBook();
+        writer.save(original, filePath);
+        writer.flush();
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_whileSaving_onlyLatestWritten() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        RecordingStorage storage = new RecordingStorage(firstSaveStarted, firstSaveReleased);
+        AddressBookWriter writer = new AddressBookWriter(storage);
+
+        AddressBook first = new AddressBook();
+        writer.save(first, FILE_PATH);
+        assertTrue(firstSaveStarted.await(5, TimeUnit.SECONDS));
+
+        AddressBook latest = new AddressBook();
+        writer.save(new AddressBook(), FILE_PATH);
+        writer.save(new AddressBook(), FILE_PATH);
+        writer.save(latest, FILE_PATH);
+        firstSaveReleased.countDown();
+        writer.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertSame(first, storage.saved.get(0));
+        assertSame(latest, storage.saved.get(1));
+    }
+
+    @Test
+    public void save_storageThrows_failureHandled() throws Exception {
+        AddressBookWriter writer = new AddressBookWriter(new RecordingStorage(null, null) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("Disk full");
+            }
+        });
+        List<Exception> failures = Collections.synchronizedList(new ArrayList<>());
+        writer.setFailureHandler(failures::add);
+
+        writer.save(new AddressBook(), FILE_PATH);
+        writer.flush();
+        assertEquals(1, failures.size());
+        assertEquals("Disk full", failures.get(0).getMessage());
+    }
+
+    /**
+     * Records the address books saved, optionally holding up the first save until it is released.
+     */
+    private static class RecordingStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch firstSaveStarted;
+        private final CountDownLatch firstSaveReleased;
+
+        RecordingStorage(CountDownLatch firstSaveStarted, CountDownLatch firstSaveReleased) {
+            this.firstSaveStarted = firstSaveStarted;
+            this.firstSaveReleased = firstSaveReleased;
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return FILE_PATH;
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAddressBook(addressBook, FILE_PATH);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saved.add(addressBook);
+            if (saved.size() == 1 && firstSaveStarted != null) {
+                firstSaveStarted.countDown();
+                try {
+                    firstSaveReleased.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        }
+    }
+}
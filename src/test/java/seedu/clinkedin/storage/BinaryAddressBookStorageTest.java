@@ -0,0 +1,84 @@
+package seedu.clinkedin.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.clinkedin.testutil.Assert.assertThrows;
+import static seedu.clinkedin.testutil.TypicalPersons.ALICE;
+import static seedu.clinkedin.testutil.TypicalPersons.HOON;
+import static seedu.clinkedin.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.clinkedin.commons.exceptions.DataConversionException;
+import seedu.clinkedin.model.AddressBook;
+import seedu.clinkedin.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.bin")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPrefixMap(), readBack.getPrefixMap());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBookStorage.VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+}
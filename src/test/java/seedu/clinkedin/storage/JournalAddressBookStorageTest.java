@@ -0,0 +1,159 @@
+package seedu.clinkedin.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.clinkedin.testutil.TypicalPersons.ALICE;
+import static seedu.clinkedin.testutil.TypicalPersons.BENSON;
+import static seedu.clinkedin.testutil.TypicalPersons.HOON;
+import static seedu.clinkedin.testutil.TypicalPersons.IDA;
+import static seedu.clinkedin.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.clinkedin.model.AddressBook;
+import seedu.clinkedin.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_changesJournaled() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = readSnapshot();
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withNote("Moved away").build());
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        // only the changes are written, one entry for each save that changed the address book
+        assertEquals(snapshot, readSnapshot());
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+        original.addPerson(HOON);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+
+        read.addPerson(HOON);
+        storage.saveAddressBook(read);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_checkpointIntervalReached_journalRestarted() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfAnotherSnapshot_ignored() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook replacement = getTypicalAddressBook();
+        replacement.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+        List<String> journal = Files.readAllLines(journalFilePath);
+        assertEquals(replacement, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // the journaled changes are kept aside rather than overwritten by the next save
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(journal, Files.readAllLines(journalFilePath.resolveSibling(journalFilePath.getFileName()
+                + JournalAddressBookStorage.UNMATCHED_JOURNAL_FILE_EXTENSION)));
+    }
+
+    @Test
+    public void checkpoint_journalHasEntries_snapshotUpToDate() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        storage.checkpoint();
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // the journal continues after the checkpoint
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        List<String> lines = Files.readAllLines(journalFilePath);
+        String lastLine = lines.get(lines.size() - 1);
+        lines.set(lines.size() - 1, lastLine.substring(0, lastLine.length() / 2));
+        Files.write(journalFilePath, lines, UTF_8, StandardOpenOption.TRUNCATE_EXISTING);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        AddressBook read = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(expected, read);
+
+        // the incomplete journal is not appended to
+        read.addPerson(IDA);
+        reopened.saveAddressBook(read);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private String readSnapshot() throws Exception {
+        return new String(Files.readAllBytes(filePath), UTF_8);
+    }
+}
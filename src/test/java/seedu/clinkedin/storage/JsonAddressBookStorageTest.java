@@ -9,8 +9,10 @@ import static seedu.clinkedin.testutil.TypicalPersons.IDA;
 import static seedu.clinkedin.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -86,6 +88,20 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_corruptedFile_backupRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        // a save cut short leaves an incomplete file
+        byte[] saved = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(saved, saved.length / 2));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -3,11 +3,14 @@ package seedu.clinkedin.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.clinkedin.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.clinkedin.commons.exceptions.DataConversionException;
 import seedu.clinkedin.commons.exceptions.IllegalValueException;
 import seedu.clinkedin.commons.util.JsonUtil;
 import seedu.clinkedin.model.AddressBook;
@@ -20,6 +23,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -44,4 +50,32 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook::read).get();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> JsonUtil.readJsonFile(INVALID_PERSON_FILE,
+                JsonSerializableAddressBook::read));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
+                JsonSerializableAddressBook::read));
+    }
+
+    @Test
+    public void write_sameAsSerializedAddressBook() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Path filePath = testFolder.resolve("streamed.json");
+        JsonUtil.saveJsonFile(filePath, 0, generator -> JsonSerializableAddressBook.write(addressBook, generator));
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                new String(Files.readAllBytes(filePath), "UTF-8"));
+    }
+
 }
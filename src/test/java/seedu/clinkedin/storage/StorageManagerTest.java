@@ -60,6 +60,22 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_savingInBackground() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("background"));
+        StorageManager backgroundStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new AddressBookWriter(addressBookStorage));
+
+        AddressBook original = getTypicalAddressBook();
+        backgroundStorageManager.saveAddressBook(original);
+        // the saved address book is a snapshot, so later changes are not saved
+        AddressBook expected = new AddressBook(original);
+        original.removePerson(original.getPersonList().get(0));
+
+        ReadOnlyAddressBook retrieved = backgroundStorageManager.readAddressBook().get();
+        assertEquals(expected, new AddressBook(retrieved));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());